@@ -1,7 +1,9 @@
 package com.jobfit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.MediaType;
 import java.util.Collections;
@@ -9,9 +11,19 @@ import java.util.Collections;
 @Configuration
 public class RestTemplateConfig {
     
+    @Value("${http.client.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${http.client.read-timeout-ms:10000}")
+    private int readTimeoutMs;
+
+    // Inference calls go through InferenceClient; this template is for any other outbound call
     @Bean
     public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
         restTemplate.getInterceptors().add((request, body, execution) -> {
             request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
             return execution.execute(request, body);
@@ -0,0 +1,27 @@
+package com.jobfit.controller;
+
+import com.jobfit.service.EntityCache;
+import com.jobfit.service.HuggingFaceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/inference")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class InferenceController {
+    @Autowired
+    private HuggingFaceService huggingFaceService;
+
+    @Autowired
+    private EntityCache entityCache;
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        Map<String, Object> status = huggingFaceService.getCircuitBreaker().snapshot();
+        status.put("nerCache", entityCache.stats());
+        return ResponseEntity.ok(status);
+    }
+}
@@ -1,12 +1,13 @@
 package com.jobfit.controller;
 
+import com.jobfit.dto.JobDescriptionSummaryDto;
+import com.jobfit.dto.PageDto;
 import com.jobfit.entity.JobDescription;
 import com.jobfit.service.JobDescriptionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/job-descriptions")
@@ -22,9 +23,14 @@ public class JobDescriptionController {
     }
 
     @GetMapping
-    public ResponseEntity<List<JobDescription>> getUserJobDescriptions() {
-        List<JobDescription> jobDescriptions = jobDescriptionService.getUserJobDescriptions();
-        return ResponseEntity.ok(jobDescriptions);
+    public ResponseEntity<PageDto<JobDescriptionSummaryDto>> getUserJobDescriptions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(jobDescriptionService.getUserJobDescriptions(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
@@ -1,16 +1,26 @@
 package com.jobfit.controller;
 
+import com.jobfit.dto.MatchResultDto;
+import com.jobfit.dto.MatchSummaryDto;
+import com.jobfit.dto.PageDto;
+import com.jobfit.dto.SimilarDocumentDto;
 import com.jobfit.entity.JobDescription;
 import com.jobfit.entity.MatchResult;
 import com.jobfit.entity.Resume;
 import com.jobfit.service.JobDescriptionService;
+import com.jobfit.service.MatchResultCache;
 import com.jobfit.service.MatchingService;
 import com.jobfit.service.ResumeService;
+import com.jobfit.service.VectorIndexService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/matching")
@@ -25,8 +35,14 @@ public class MatchingController {
     @Autowired
     private JobDescriptionService jobDescriptionService;
 
+    @Autowired
+    private VectorIndexService vectorIndexService;
+
+    @Autowired
+    private MatchResultCache matchResultCache;
+
     @PostMapping("/match")
-    public ResponseEntity<MatchResult> matchResumeToJob(@RequestParam Long resumeId, @RequestParam Long jobDescriptionId) {
+    public ResponseEntity<MatchResultDto> matchResumeToJob(@RequestParam Long resumeId, @RequestParam Long jobDescriptionId) {
         Resume resume = resumeService.getResumeById(resumeId)
                 .orElse(null);
         JobDescription jobDescription = jobDescriptionService.getJobDescriptionById(jobDescriptionId)
@@ -37,19 +53,72 @@ public class MatchingController {
         }
 
         MatchResult matchResult = matchingService.matchResumeToJob(resume, jobDescription);
-        return ResponseEntity.ok(matchResult);
+        return ResponseEntity.ok(MatchResultDto.fromEntity(matchResult));
+    }
+
+    @GetMapping("/jobs/{id}/top")
+    @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
+    public ResponseEntity<List<MatchSummaryDto>> getTopCandidates(@PathVariable Long id,
+                                                                  @RequestParam(defaultValue = "10") int k) {
+        JobDescription jobDescription = jobDescriptionService.getJobDescriptionById(id)
+                .orElse(null);
+
+        if (jobDescription == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        List<MatchSummaryDto> ranked = matchingService.rankResumesForJob(jobDescription, k).stream()
+                .map(MatchSummaryDto::fromEntity)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(ranked);
+    }
+
+    @GetMapping("/resumes/{id}/jobs")
+    public ResponseEntity<List<SimilarDocumentDto>> getSimilarJobs(@PathVariable Long id,
+                                                                   @RequestParam(defaultValue = "10") int n) {
+        // ANN search needs per-document embeddings, which the remote provider does not produce
+        // with semantic.remote.embeddings=false
+        if (!vectorIndexService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+
+        return resumeService.getResumeById(id)
+                .map(resume -> ResponseEntity.ok(vectorIndexService.findJobsForResume(resume, n)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/jobs/{id}/resumes")
+    @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN')")
+    public ResponseEntity<List<SimilarDocumentDto>> getSimilarResumes(@PathVariable Long id,
+                                                                      @RequestParam(defaultValue = "10") int n) {
+        if (!vectorIndexService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+
+        return jobDescriptionService.getJobDescriptionById(id)
+                .map(jobDescription -> ResponseEntity.ok(vectorIndexService.findResumesForJob(jobDescription, n)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(matchResultCache.stats());
     }
 
     @GetMapping("/results")
-    public ResponseEntity<List<MatchResult>> getUserMatchResults() {
-        // This would need to be implemented to get the current user's ID
-        // For now, returning empty list
-        return ResponseEntity.ok(List.of());
+    public ResponseEntity<PageDto<MatchSummaryDto>> getUserMatchResults(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(matchingService.getUserMatchResults(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/results/{resumeId}/{jobDescriptionId}")
-    public ResponseEntity<MatchResult> getMatchResult(@PathVariable Long resumeId, @PathVariable Long jobDescriptionId) {
-        return matchingService.getMatchResult(resumeId, jobDescriptionId)
+    public ResponseEntity<MatchResultDto> getMatchResult(@PathVariable Long resumeId, @PathVariable Long jobDescriptionId) {
+        return matchingService.getMatchResultDto(resumeId, jobDescriptionId)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -1,16 +1,29 @@
 package com.jobfit.controller;
 
-import com.jobfit.dto.ResumeDto;
+import com.jobfit.dto.IngestionJobDto;
+import com.jobfit.dto.PageDto;
+import com.jobfit.dto.ResumeSummaryDto;
 import com.jobfit.entity.Resume;
+import com.jobfit.service.ResumeIngestionService;
 import com.jobfit.service.ResumeService;
-import org.apache.tika.exception.TikaException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.io.IOException;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/resumes")
@@ -19,20 +32,49 @@ public class ResumeController {
     @Autowired
     private ResumeService resumeService;
 
+    @Autowired
+    private ResumeIngestionService resumeIngestionService;
+
+    // Accepts the file and returns straight away; parsing and extraction run in the background
     @PostMapping("/upload")
-    public ResponseEntity<ResumeDto> uploadResume(@RequestParam("file") MultipartFile file) {
+    public ResponseEntity<IngestionJobDto> uploadResume(@RequestParam("file") MultipartFile file) {
         try {
-            ResumeDto resumeDto = resumeService.uploadResume(file);
-            return ResponseEntity.ok(resumeDto);
-        } catch (IOException | TikaException e) {
+            IngestionJobDto job = resumeIngestionService.submit(file);
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                            .path("/resumes/ingestions/{jobId}").buildAndExpand(job.getId()).toUri())
+                    .body(job);
+        } catch (IOException e) {
             return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
     }
 
+    @GetMapping("/ingestions/{jobId}")
+    public ResponseEntity<IngestionJobDto> getIngestion(@PathVariable String jobId) {
+        return resumeIngestionService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Server-sent "status" events carrying an IngestionJobDto, until the job completes or fails
+    @GetMapping(value = "/ingestions/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamIngestion(@PathVariable String jobId) {
+        return resumeIngestionService.subscribe(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping
-    public ResponseEntity<List<Resume>> getUserResumes() {
-        List<Resume> resumes = resumeService.getUserResumes();
-        return ResponseEntity.ok(resumes);
+    public ResponseEntity<PageDto<ResumeSummaryDto>> getUserResumes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(resumeService.getUserResumes(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
@@ -42,6 +84,35 @@ public class ResumeController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // Streams the original upload from the blob store; the content hash doubles as a strong ETag
+    @GetMapping("/{id}/file")
+    public ResponseEntity<Resource> downloadResumeFile(@PathVariable Long id) {
+        Optional<Resume> resume = resumeService.getResumeById(id);
+        if (resume.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return resumeService.getResumeFile(resume.get())
+                .map(path -> ResponseEntity.ok()
+                        .contentType(mediaTypeOf(resume.get()))
+                        .contentLength(resume.get().getContentSize())
+                        .eTag("\"" + resume.get().getContentHash() + "\"")
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename(resume.get().getFileName(), StandardCharsets.UTF_8)
+                                .build().toString())
+                        .<Resource>body(new FileSystemResource(path)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private static MediaType mediaTypeOf(Resume resume) {
+        try {
+            return resume.getContentType() != null
+                    ? MediaType.parseMediaType(resume.getContentType())
+                    : MediaType.APPLICATION_OCTET_STREAM;
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteResume(@PathVariable Long id) {
         try {
@@ -0,0 +1,35 @@
+package com.jobfit.controller;
+
+import com.jobfit.scoring.SkillTaxonomy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/skills/taxonomy")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SkillTaxonomyController {
+    @Autowired
+    private SkillTaxonomy skillTaxonomy;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getTaxonomy() {
+        return ResponseEntity.ok(skillTaxonomy.describe());
+    }
+
+    @PostMapping("/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> reloadTaxonomy() {
+        try {
+            return ResponseEntity.ok(skillTaxonomy.reload());
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.jobfit.dto;
+
+import java.time.LocalDateTime;
+
+public class JobDescriptionSummaryDto {
+    private Long id;
+    private String title;
+    private String company;
+    private LocalDateTime createdAt;
+    private Integer requiredSkillCount;
+
+    public JobDescriptionSummaryDto() {
+    }
+
+    // Used by constructor-expression queries in JobDescriptionRepository
+    public JobDescriptionSummaryDto(Long id, String title, String company, LocalDateTime createdAt,
+                                    Integer requiredSkillCount) {
+        this.id = id;
+        this.title = title;
+        this.company = company;
+        this.createdAt = createdAt;
+        this.requiredSkillCount = requiredSkillCount;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Integer getRequiredSkillCount() {
+        return requiredSkillCount;
+    }
+
+    public void setRequiredSkillCount(Integer requiredSkillCount) {
+        this.requiredSkillCount = requiredSkillCount;
+    }
+}
@@ -0,0 +1,160 @@
+package com.jobfit.dto;
+
+import com.jobfit.entity.MatchResult;
+import com.jobfit.scoring.MatchAdvice;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MatchResultDto {
+    private Long id;
+    private Long resumeId;
+    private Long jobDescriptionId;
+    private Double overallScore;
+    private Double skillsScore;
+    private Double experienceScore;
+    private Double educationScore;
+    private Double semanticSimilarity;
+    private List<String> missingSkills;
+    private Map<String, Double> skillScores;
+    private List<String> improvementSuggestions;
+    private List<String> learningResources;
+    private LocalDateTime createdAt;
+
+    public MatchResultDto() {
+    }
+
+    // Static factory method to create DTO from Entity; copies the element collections
+    // so the DTO stays usable after the session closes
+    public static MatchResultDto fromEntity(MatchResult matchResult) {
+        MatchResultDto dto = new MatchResultDto();
+        dto.setId(matchResult.getId());
+        dto.setResumeId(matchResult.getResume().getId());
+        dto.setJobDescriptionId(matchResult.getJobDescription().getId());
+        dto.setOverallScore(matchResult.getOverallScore());
+        dto.setSkillsScore(matchResult.getSkillsScore());
+        dto.setExperienceScore(matchResult.getExperienceScore());
+        dto.setEducationScore(matchResult.getEducationScore());
+        dto.setSemanticSimilarity(matchResult.getSemanticSimilarity());
+        dto.setMissingSkills(copyOf(matchResult.getMissingSkills()));
+        dto.setSkillScores(matchResult.getSkillScores() != null ? new LinkedHashMap<>(matchResult.getSkillScores()) : null);
+        // Rendered here rather than stored: pure templates over the missing skills and scores
+        List<String> missingSkills = matchResult.getMissingSkills() != null ? matchResult.getMissingSkills() : List.of();
+        dto.setImprovementSuggestions(MatchAdvice.improvementSuggestions(
+                missingSkills, matchResult.getSkillsScore(), matchResult.getOverallScore()));
+        dto.setLearningResources(MatchAdvice.learningResources(missingSkills));
+        dto.setCreatedAt(matchResult.getCreatedAt());
+        return dto;
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values != null ? new ArrayList<>(values) : null;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public Long getJobDescriptionId() {
+        return jobDescriptionId;
+    }
+
+    public void setJobDescriptionId(Long jobDescriptionId) {
+        this.jobDescriptionId = jobDescriptionId;
+    }
+
+    public Double getOverallScore() {
+        return overallScore;
+    }
+
+    public void setOverallScore(Double overallScore) {
+        this.overallScore = overallScore;
+    }
+
+    public Double getSkillsScore() {
+        return skillsScore;
+    }
+
+    public void setSkillsScore(Double skillsScore) {
+        this.skillsScore = skillsScore;
+    }
+
+    public Double getExperienceScore() {
+        return experienceScore;
+    }
+
+    public void setExperienceScore(Double experienceScore) {
+        this.experienceScore = experienceScore;
+    }
+
+    public Double getEducationScore() {
+        return educationScore;
+    }
+
+    public void setEducationScore(Double educationScore) {
+        this.educationScore = educationScore;
+    }
+
+    public Double getSemanticSimilarity() {
+        return semanticSimilarity;
+    }
+
+    public void setSemanticSimilarity(Double semanticSimilarity) {
+        this.semanticSimilarity = semanticSimilarity;
+    }
+
+    public List<String> getMissingSkills() {
+        return missingSkills;
+    }
+
+    public void setMissingSkills(List<String> missingSkills) {
+        this.missingSkills = missingSkills;
+    }
+
+    public Map<String, Double> getSkillScores() {
+        return skillScores;
+    }
+
+    public void setSkillScores(Map<String, Double> skillScores) {
+        this.skillScores = skillScores;
+    }
+
+    public List<String> getImprovementSuggestions() {
+        return improvementSuggestions;
+    }
+
+    public void setImprovementSuggestions(List<String> improvementSuggestions) {
+        this.improvementSuggestions = improvementSuggestions;
+    }
+
+    public List<String> getLearningResources() {
+        return learningResources;
+    }
+
+    public void setLearningResources(List<String> learningResources) {
+        this.learningResources = learningResources;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,155 @@
+package com.jobfit.dto;
+
+import com.jobfit.entity.MatchResult;
+import java.time.LocalDateTime;
+
+public class MatchSummaryDto {
+    private Long id;
+    private Long resumeId;
+    private String resumeFileName;
+    private Long jobDescriptionId;
+    private String jobTitle;
+    private String company;
+    private Double overallScore;
+    private Double skillsScore;
+    private Double experienceScore;
+    private Double educationScore;
+    private Double semanticSimilarity;
+    private LocalDateTime createdAt;
+
+    public MatchSummaryDto() {
+    }
+
+    public MatchSummaryDto(Long id, Long resumeId, String resumeFileName, Long jobDescriptionId,
+                           String jobTitle, String company, Double overallScore, Double skillsScore,
+                           Double experienceScore, Double educationScore, Double semanticSimilarity,
+                           LocalDateTime createdAt) {
+        this.id = id;
+        this.resumeId = resumeId;
+        this.resumeFileName = resumeFileName;
+        this.jobDescriptionId = jobDescriptionId;
+        this.jobTitle = jobTitle;
+        this.company = company;
+        this.overallScore = overallScore;
+        this.skillsScore = skillsScore;
+        this.experienceScore = experienceScore;
+        this.educationScore = educationScore;
+        this.semanticSimilarity = semanticSimilarity;
+        this.createdAt = createdAt;
+    }
+
+    // Static factory method to create DTO from Entity
+    public static MatchSummaryDto fromEntity(MatchResult matchResult) {
+        MatchSummaryDto dto = new MatchSummaryDto();
+        dto.setId(matchResult.getId());
+        dto.setResumeId(matchResult.getResume().getId());
+        dto.setResumeFileName(matchResult.getResume().getFileName());
+        dto.setJobDescriptionId(matchResult.getJobDescription().getId());
+        dto.setJobTitle(matchResult.getJobDescription().getTitle());
+        dto.setCompany(matchResult.getJobDescription().getCompany());
+        dto.setOverallScore(matchResult.getOverallScore());
+        dto.setSkillsScore(matchResult.getSkillsScore());
+        dto.setExperienceScore(matchResult.getExperienceScore());
+        dto.setEducationScore(matchResult.getEducationScore());
+        dto.setSemanticSimilarity(matchResult.getSemanticSimilarity());
+        dto.setCreatedAt(matchResult.getCreatedAt());
+        return dto;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public String getResumeFileName() {
+        return resumeFileName;
+    }
+
+    public void setResumeFileName(String resumeFileName) {
+        this.resumeFileName = resumeFileName;
+    }
+
+    public Long getJobDescriptionId() {
+        return jobDescriptionId;
+    }
+
+    public void setJobDescriptionId(Long jobDescriptionId) {
+        this.jobDescriptionId = jobDescriptionId;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public Double getOverallScore() {
+        return overallScore;
+    }
+
+    public void setOverallScore(Double overallScore) {
+        this.overallScore = overallScore;
+    }
+
+    public Double getSkillsScore() {
+        return skillsScore;
+    }
+
+    public void setSkillsScore(Double skillsScore) {
+        this.skillsScore = skillsScore;
+    }
+
+    public Double getExperienceScore() {
+        return experienceScore;
+    }
+
+    public void setExperienceScore(Double experienceScore) {
+        this.experienceScore = experienceScore;
+    }
+
+    public Double getEducationScore() {
+        return educationScore;
+    }
+
+    public void setEducationScore(Double educationScore) {
+        this.educationScore = educationScore;
+    }
+
+    public Double getSemanticSimilarity() {
+        return semanticSimilarity;
+    }
+
+    public void setSemanticSimilarity(Double semanticSimilarity) {
+        this.semanticSimilarity = semanticSimilarity;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
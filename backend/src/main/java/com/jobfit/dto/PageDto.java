@@ -0,0 +1,46 @@
+package com.jobfit.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+// One page of a keyset-paginated listing; nextCursor is null on the last page
+public class PageDto<T> {
+    public static final int MAX_LIMIT = 100;
+
+    private List<T> items;
+    private String nextCursor;
+
+    public PageDto() {
+    }
+
+    public PageDto(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // rows were fetched with limit + 1; the extra row only signals that another page exists
+    public static <T> PageDto<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new PageDto<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new PageDto<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -7,7 +7,9 @@ import java.util.List;
 public class ResumeDto {
     private Long id;
     private String fileName;
-    private String content;
+    private String contentHash;
+    private Long contentSize;
+    private String contentType;
     private String extractedText;
     private List<String> skills;
     private List<String> experience;
@@ -20,12 +22,15 @@ public class ResumeDto {
     }
 
     // Constructor with all fields
-    public ResumeDto(Long id, String fileName, String content, String extractedText, 
+    public ResumeDto(Long id, String fileName, String contentHash, Long contentSize, String contentType,
+                    String extractedText, 
                     List<String> skills, List<String> experience, List<String> education,
                     LocalDateTime uploadedAt, LocalDateTime lastUpdated) {
         this.id = id;
         this.fileName = fileName;
-        this.content = content;
+        this.contentHash = contentHash;
+        this.contentSize = contentSize;
+        this.contentType = contentType;
         this.extractedText = extractedText;
         this.skills = skills;
         this.experience = experience;
@@ -39,7 +44,9 @@ public class ResumeDto {
         ResumeDto dto = new ResumeDto();
         dto.setId(resume.getId());
         dto.setFileName(resume.getFileName());
-        dto.setContent(resume.getContent());
+        dto.setContentHash(resume.getContentHash());
+        dto.setContentSize(resume.getContentSize());
+        dto.setContentType(resume.getContentType());
         dto.setExtractedText(resume.getExtractedText());
         dto.setSkills(resume.getSkills());
         dto.setExperience(resume.getExperience());
@@ -66,12 +73,28 @@ public class ResumeDto {
         this.fileName = fileName;
     }
 
-    public String getContent() {
-        return content;
+    public String getContentHash() {
+        return contentHash;
     }
 
-    public void setContent(String content) {
-        this.content = content;
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Long getContentSize() {
+        return contentSize;
+    }
+
+    public void setContentSize(Long contentSize) {
+        this.contentSize = contentSize;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
     }
 
     public String getExtractedText() {
@@ -127,7 +150,9 @@ public class ResumeDto {
         return "ResumeDto{" +
                 "id=" + id +
                 ", fileName='" + fileName + '\'' +
-                ", content='" + (content != null ? content.substring(0, Math.min(50, content.length())) + "..." : "null") + '\'' +
+                ", contentHash='" + contentHash + '\'' +
+                ", contentSize=" + contentSize +
+                ", contentType='" + contentType + '\'' +
                 ", extractedText='" + (extractedText != null ? extractedText.substring(0, Math.min(50, extractedText.length())) + "..." : "null") + '\'' +
                 ", skills=" + skills +
                 ", experience=" + experience +
@@ -0,0 +1,75 @@
+package com.jobfit.dto;
+
+import java.time.LocalDateTime;
+
+public class ResumeSummaryDto {
+    private Long id;
+    private String fileName;
+    private String contentType;
+    private Long contentSize;
+    private LocalDateTime uploadedAt;
+    private Integer skillCount;
+
+    public ResumeSummaryDto() {
+    }
+
+    // Used by constructor-expression queries in ResumeRepository
+    public ResumeSummaryDto(Long id, String fileName, String contentType, Long contentSize,
+                            LocalDateTime uploadedAt, Integer skillCount) {
+        this.id = id;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.contentSize = contentSize;
+        this.uploadedAt = uploadedAt;
+        this.skillCount = skillCount;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getContentSize() {
+        return contentSize;
+    }
+
+    public void setContentSize(Long contentSize) {
+        this.contentSize = contentSize;
+    }
+
+    public LocalDateTime getUploadedAt() {
+        return uploadedAt;
+    }
+
+    public void setUploadedAt(LocalDateTime uploadedAt) {
+        this.uploadedAt = uploadedAt;
+    }
+
+    public Integer getSkillCount() {
+        return skillCount;
+    }
+
+    public void setSkillCount(Integer skillCount) {
+        this.skillCount = skillCount;
+    }
+}
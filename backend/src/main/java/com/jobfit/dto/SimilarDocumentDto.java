@@ -0,0 +1,40 @@
+package com.jobfit.dto;
+
+public class SimilarDocumentDto {
+    private Long id;
+    private String name;
+    private Double similarity;
+
+    public SimilarDocumentDto() {}
+
+    public SimilarDocumentDto(Long id, String name, Double similarity) {
+        this.id = id;
+        this.name = name;
+        this.similarity = similarity;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Double getSimilarity() {
+        return similarity;
+    }
+
+    public void setSimilarity(Double similarity) {
+        this.similarity = similarity;
+    }
+}
@@ -0,0 +1,102 @@
+package com.jobfit.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// Embedding vector keyed by a SHA-256 of the provider name and the embedded text
+@Entity
+@Table(name = "document_embeddings")
+public class DocumentEmbedding implements Persistable<String> {
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String model;
+
+    @Column(nullable = false)
+    private Integer dimension;
+
+    // Little-endian float32 values
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] vector;
+
+    private LocalDateTime createdAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public DocumentEmbedding() {}
+
+    public DocumentEmbedding(String contentHash, String model, Integer dimension, byte[] vector) {
+        this.contentHash = contentHash;
+        this.model = model;
+        this.dimension = dimension;
+        this.vector = vector;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return contentHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Getters and Setters
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public void setModel(String model) {
+        this.model = model;
+    }
+
+    public Integer getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(Integer dimension) {
+        this.dimension = dimension;
+    }
+
+    public byte[] getVector() {
+        return vector;
+    }
+
+    public void setVector(byte[] vector) {
+        this.vector = vector;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
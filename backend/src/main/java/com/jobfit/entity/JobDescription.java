@@ -5,9 +5,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.jobfit.scoring.TermVector;
+import com.jobfit.scoring.TermVectorConverter;
 
 @Entity
-@Table(name = "job_descriptions")
+@Table(name = "job_descriptions",
+        indexes = @Index(name = "idx_job_descriptions_user_created", columnList = "user_id, created_at, id"))
 public class JobDescription {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,6 +33,11 @@ public class JobDescription {
     @Column(columnDefinition = "TEXT")
     private String extractedText;
 
+    // Hash of the description and its extracted requirements, part of every match fingerprint
+    @Column(length = 64)
+    @JsonIgnore
+    private String contentHash;
+
     @ElementCollection
     @CollectionTable(name = "jd_required_skills", joinColumns = @JoinColumn(name = "job_description_id"))
     @Column(name = "skill")
@@ -50,6 +58,27 @@ public class JobDescription {
     @Column(name = "requirement", columnDefinition = "TEXT")
     private List<String> educationRequirements;
 
+    // Term vectors derived from the requirements when they are set, so scoring never re-tokenizes
+    @Convert(converter = TermVectorConverter.class)
+    @Column(columnDefinition = "TEXT")
+    @JsonIgnore
+    private TermVector experienceTerms;
+
+    @Convert(converter = TermVectorConverter.class)
+    @Column(columnDefinition = "TEXT")
+    @JsonIgnore
+    private TermVector educationTerms;
+
+    // Skill ids from the SkillDictionary, derived from requiredSkills and never persisted:
+    // one per entry in list order, plus the sorted distinct set used for set operations
+    @Transient
+    @JsonIgnore
+    private int[] requiredSkillIds;
+
+    @Transient
+    @JsonIgnore
+    private int[] requiredSkillSet;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime lastUpdated;
@@ -106,6 +135,14 @@ public class JobDescription {
         this.description = description;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public String getExtractedText() {
         return extractedText;
     }
@@ -120,6 +157,24 @@ public class JobDescription {
 
     public void setRequiredSkills(List<String> requiredSkills) {
         this.requiredSkills = requiredSkills;
+        this.requiredSkillIds = null;
+        this.requiredSkillSet = null;
+    }
+
+    public int[] getRequiredSkillIds() {
+        return requiredSkillIds;
+    }
+
+    public void setRequiredSkillIds(int[] requiredSkillIds) {
+        this.requiredSkillIds = requiredSkillIds;
+    }
+
+    public int[] getRequiredSkillSet() {
+        return requiredSkillSet;
+    }
+
+    public void setRequiredSkillSet(int[] requiredSkillSet) {
+        this.requiredSkillSet = requiredSkillSet;
     }
 
     public List<String> getPreferredSkills() {
@@ -136,6 +191,7 @@ public class JobDescription {
 
     public void setExperienceRequirements(List<String> experienceRequirements) {
         this.experienceRequirements = experienceRequirements;
+        this.experienceTerms = TermVector.of(experienceRequirements);
     }
 
     public List<String> getEducationRequirements() {
@@ -144,6 +200,15 @@ public class JobDescription {
 
     public void setEducationRequirements(List<String> educationRequirements) {
         this.educationRequirements = educationRequirements;
+        this.educationTerms = TermVector.of(educationRequirements);
+    }
+
+    public TermVector getExperienceTerms() {
+        return experienceTerms;
+    }
+
+    public TermVector getEducationTerms() {
+        return educationTerms;
     }
 
     public LocalDateTime getCreatedAt() {
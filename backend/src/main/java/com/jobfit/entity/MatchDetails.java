@@ -0,0 +1,23 @@
+package com.jobfit.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+import java.util.Map;
+
+// Per-match detail, stored in one JSON column of match_results. Only the structured inputs are
+// kept; suggestions and learning resources are rendered from them on read (see MatchAdvice).
+// Immutable, so Hibernate's dirty check can compare values with equals().
+// Unknown properties are ignored so rows written with the earlier, larger layout still load.
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MatchDetails(List<String> missingSkills, Map<String, Double> skillScores) {
+    public static final MatchDetails EMPTY = new MatchDetails(null, null);
+
+    public MatchDetails withMissingSkills(List<String> missingSkills) {
+        return new MatchDetails(missingSkills, skillScores);
+    }
+
+    public MatchDetails withSkillScores(Map<String, Double> skillScores) {
+        return new MatchDetails(missingSkills, skillScores);
+    }
+}
@@ -0,0 +1,35 @@
+package com.jobfit.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class MatchDetailsConverter implements AttributeConverter<MatchDetails, String> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(MatchDetails details) {
+        if (details == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(details);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize match details", e);
+        }
+    }
+
+    @Override
+    public MatchDetails convertToEntityAttribute(String data) {
+        if (data == null || data.isEmpty()) {
+            return MatchDetails.EMPTY;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(data, MatchDetails.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot read match details", e);
+        }
+    }
+}
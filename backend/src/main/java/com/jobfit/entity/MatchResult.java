@@ -1,12 +1,14 @@
 package com.jobfit.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
 @Entity
-@Table(name = "match_results")
+@Table(name = "match_results",
+        indexes = @Index(name = "idx_match_results_owner_score", columnList = "resume_owner_id, overall_score, id"))
 public class MatchResult {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,6 +22,11 @@ public class MatchResult {
     @JoinColumn(name = "job_description_id", nullable = false)
     private JobDescription jobDescription;
 
+    // Copy of resume.user.id, so a user's history can be read score-ordered from one index
+    @Column(name = "resume_owner_id")
+    @JsonIgnore
+    private Long resumeOwnerId;
+
     @Column(nullable = false)
     private Double overallScore;
 
@@ -32,37 +39,33 @@ public class MatchResult {
     @Column(nullable = false)
     private Double educationScore;
 
-    @ElementCollection
-    @CollectionTable(name = "match_missing_skills", joinColumns = @JoinColumn(name = "match_result_id"))
-    @Column(name = "skill")
-    private List<String> missingSkills;
-
-    @ElementCollection
-    @CollectionTable(name = "match_skill_scores", joinColumns = @JoinColumn(name = "match_result_id"))
-    @MapKeyColumn(name = "skill")
-    @Column(name = "score")
-    private Map<String, Double> skillScores;
-
-    @ElementCollection
-    @CollectionTable(name = "match_improvement_suggestions", joinColumns = @JoinColumn(name = "match_result_id"))
-    @Column(name = "suggestion", columnDefinition = "TEXT")
-    private List<String> improvementSuggestions;
-
-    @ElementCollection
-    @CollectionTable(name = "match_learning_resources", joinColumns = @JoinColumn(name = "match_result_id"))
-    @Column(name = "resource", columnDefinition = "TEXT")
-    private List<String> learningResources;
+    // Missing skills and per-skill scores in one JSON column, so saving a match writes a single row
+    @Convert(converter = MatchDetailsConverter.class)
+    @Column(columnDefinition = "TEXT")
+    @JsonIgnore
+    private MatchDetails details = MatchDetails.EMPTY;
 
     private LocalDateTime createdAt;
 
     @Column(nullable = false)
     private Double semanticSimilarity;
 
-    
+    // MatchFingerprint of the inputs these scores were computed from
+    @Column(length = 64)
+    @JsonIgnore
+    private String inputFingerprint;
 
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        if (resumeOwnerId == null && resume != null && resume.getUser() != null) {
+            resumeOwnerId = resume.getUser().getId();
+        }
+    }
+
+    // Rows written before the details column existed read back as null
+    private MatchDetails details() {
+        return details != null ? details : MatchDetails.EMPTY;
     }
 
     // Getters and Setters
@@ -82,6 +85,14 @@ public class MatchResult {
         this.resume = resume;
     }
 
+    public Long getResumeOwnerId() {
+        return resumeOwnerId;
+    }
+
+    public void setResumeOwnerId(Long resumeOwnerId) {
+        this.resumeOwnerId = resumeOwnerId;
+    }
+
     public JobDescription getJobDescription() {
         return jobDescription;
     }
@@ -123,35 +134,19 @@ public class MatchResult {
     }
 
     public List<String> getMissingSkills() {
-        return missingSkills;
+        return details().missingSkills();
     }
 
     public void setMissingSkills(List<String> missingSkills) {
-        this.missingSkills = missingSkills;
+        this.details = details().withMissingSkills(missingSkills);
     }
 
     public Map<String, Double> getSkillScores() {
-        return skillScores;
+        return details().skillScores();
     }
 
     public void setSkillScores(Map<String, Double> skillScores) {
-        this.skillScores = skillScores;
-    }
-
-    public List<String> getImprovementSuggestions() {
-        return improvementSuggestions;
-    }
-
-    public void setImprovementSuggestions(List<String> improvementSuggestions) {
-        this.improvementSuggestions = improvementSuggestions;
-    }
-
-    public List<String> getLearningResources() {
-        return learningResources;
-    }
-
-    public void setLearningResources(List<String> learningResources) {
-        this.learningResources = learningResources;
+        this.details = details().withSkillScores(skillScores);
     }
 
     public LocalDateTime getCreatedAt() {
@@ -169,4 +164,12 @@ public class MatchResult {
     public void setSemanticSimilarity(Double semanticSimilarity) {
         this.semanticSimilarity = semanticSimilarity;
     }
-}
\ No newline at end of file
+
+    public String getInputFingerprint() {
+        return inputFingerprint;
+    }
+
+    public void setInputFingerprint(String inputFingerprint) {
+        this.inputFingerprint = inputFingerprint;
+    }
+}
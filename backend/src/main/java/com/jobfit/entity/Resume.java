@@ -5,9 +5,15 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.jobfit.scoring.TermVector;
+import com.jobfit.scoring.TermVectorConverter;
 
 @Entity
-@Table(name = "resumes")
+@Table(name = "resumes", indexes = {
+        @Index(name = "idx_resumes_content_hash", columnList = "content_hash"),
+        // Serves the keyset-paginated listing: newest first within a user
+        @Index(name = "idx_resumes_user_uploaded", columnList = "user_id, uploaded_at, id")
+})
 public class Resume {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -21,8 +27,14 @@ public class Resume {
     @Column(nullable = false)
     private String fileName;
 
-    @Column(columnDefinition = "LONGTEXT")
-    private String content;
+    // The uploaded file lives in the BlobStore under its SHA-256; only its address and shape are kept here
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    private Long contentSize;
+
+    @Column(length = 127)
+    private String contentType;
 
     @Column(columnDefinition = "TEXT")
     private String extractedText;
@@ -42,6 +54,22 @@ public class Resume {
     @Column(name = "education", columnDefinition = "TEXT")
     private List<String> education;
 
+    // Term vectors derived from experience/education when they are set, so scoring never re-tokenizes
+    @Convert(converter = TermVectorConverter.class)
+    @Column(columnDefinition = "TEXT")
+    @JsonIgnore
+    private TermVector experienceTerms;
+
+    @Convert(converter = TermVectorConverter.class)
+    @Column(columnDefinition = "TEXT")
+    @JsonIgnore
+    private TermVector educationTerms;
+
+    // Sorted skill ids from the SkillDictionary, derived from skills and never persisted
+    @Transient
+    @JsonIgnore
+    private int[] skillIds;
+
     private LocalDateTime uploadedAt;
 
     private LocalDateTime lastUpdated;
@@ -82,12 +110,28 @@ public class Resume {
         this.fileName = fileName;
     }
 
-    public String getContent() {
-        return content;
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Long getContentSize() {
+        return contentSize;
+    }
+
+    public void setContentSize(Long contentSize) {
+        this.contentSize = contentSize;
     }
 
-    public void setContent(String content) {
-        this.content = content;
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
     }
 
     public String getExtractedText() {
@@ -104,6 +148,15 @@ public class Resume {
 
     public void setSkills(List<String> skills) {
         this.skills = skills;
+        this.skillIds = null;
+    }
+
+    public int[] getSkillIds() {
+        return skillIds;
+    }
+
+    public void setSkillIds(int[] skillIds) {
+        this.skillIds = skillIds;
     }
 
     public List<String> getExperience() {
@@ -112,6 +165,7 @@ public class Resume {
 
     public void setExperience(List<String> experience) {
         this.experience = experience;
+        this.experienceTerms = TermVector.of(experience);
     }
 
     public List<String> getEducation() {
@@ -120,6 +174,15 @@ public class Resume {
 
     public void setEducation(List<String> education) {
         this.education = education;
+        this.educationTerms = TermVector.of(education);
+    }
+
+    public TermVector getExperienceTerms() {
+        return experienceTerms;
+    }
+
+    public TermVector getEducationTerms() {
+        return educationTerms;
     }
 
     public LocalDateTime getUploadedAt() {
@@ -8,8 +8,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.jobfit.security.PrincipalCacheEvictionListener;
 
 @Entity
+@EntityListeners(PrincipalCacheEvictionListener.class)
 @Table(name = "users",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = "username"),
@@ -0,0 +1,312 @@
+package com.jobfit.index;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Hierarchical navigable small world graph for approximate cosine nearest-neighbour search.
+// Vectors are L2-normalized on insert so distance is 1 - dot product. Removal marks a node
+// deleted: it still routes searches but is never returned. Once deleted nodes make up more than
+// a third of the graph it is rebuilt from the live ones, so tombstones stay bounded.
+public class HnswIndex {
+    private final int m;
+    private final int maxLinksLayer0;
+    private final int efConstruction;
+    private final int defaultEfSearch;
+    private final double levelMultiplier;
+    private final Random random = new Random(42);
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Map<Long, Integer> nodeByDocument = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int dimension = -1;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int deletedCount;
+
+    public HnswIndex(int m, int efConstruction, int efSearch) {
+        this.m = m;
+        this.maxLinksLayer0 = 2 * m;
+        this.efConstruction = efConstruction;
+        this.defaultEfSearch = efSearch;
+        this.levelMultiplier = 1.0 / Math.log(m);
+    }
+
+    // Inserts or replaces the vector for a document
+    public void add(long documentId, float[] vector) {
+        float[] normalized = normalize(vector);
+        lock.writeLock().lock();
+        try {
+            if (dimension == -1) {
+                dimension = normalized.length;
+            } else if (dimension != normalized.length) {
+                throw new IllegalArgumentException("Expected dimension " + dimension + " but got " + normalized.length);
+            }
+            removeLocked(documentId);
+            insertLocked(documentId, normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Neighbour> search(float[] query, int k) {
+        return search(query, k, defaultEfSearch);
+    }
+
+    // Up to k live documents closest to the query, most similar first
+    public List<Neighbour> search(float[] query, int k, int efSearch) {
+        float[] normalized = normalize(query);
+        lock.readLock().lock();
+        try {
+            if (entryPoint == -1 || normalized.length != dimension) {
+                return List.of();
+            }
+            int current = entryPoint;
+            for (int layer = maxLevel; layer > 0; layer--) {
+                current = greedyClosest(normalized, current, layer);
+            }
+            // Widen the beam by the share of tombstones so deletions do not starve the result
+            int ef = Math.max(efSearch, k) + (int) Math.min((long) k * deletedCount / Math.max(1, nodes.size() - deletedCount), 4L * k);
+            List<Candidate> found = searchLayer(normalized,
+                    List.of(new Candidate(current, distance(normalized, nodes.get(current).vector))), ef, 0);
+
+            List<Neighbour> result = new ArrayList<>(k);
+            for (Candidate candidate : found) {
+                Node node = nodes.get(candidate.node());
+                if (!node.deleted) {
+                    result.add(new Neighbour(node.documentId, 1.0f - candidate.distance()));
+                    if (result.size() == k) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeByDocument.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long documentId) {
+        Integer nodeIndex = nodeByDocument.remove(documentId);
+        if (nodeIndex != null) {
+            nodes.get(nodeIndex).deleted = true;
+            deletedCount++;
+            if (deletedCount * 2 > nodeByDocument.size()) {
+                rebuildLocked();
+            }
+        }
+    }
+
+    // Re-inserts the live nodes into an empty graph; amortized over the deletions that triggered it
+    private void rebuildLocked() {
+        List<Node> live = new ArrayList<>(nodeByDocument.size());
+        for (Node node : nodes) {
+            if (!node.deleted) {
+                live.add(node);
+            }
+        }
+        nodes.clear();
+        nodeByDocument.clear();
+        entryPoint = -1;
+        maxLevel = -1;
+        deletedCount = 0;
+        for (Node node : live) {
+            insertLocked(node.documentId, node.vector);
+        }
+    }
+
+    private void insertLocked(long documentId, float[] normalized) {
+        int level = (int) Math.floor(-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+        int nodeIndex = nodes.size();
+        Node node = new Node(documentId, normalized, level);
+        nodes.add(node);
+        nodeByDocument.put(documentId, nodeIndex);
+
+        if (entryPoint == -1) {
+            entryPoint = nodeIndex;
+            maxLevel = level;
+            return;
+        }
+
+        int current = entryPoint;
+        for (int layer = maxLevel; layer > level; layer--) {
+            current = greedyClosest(normalized, current, layer);
+        }
+
+        List<Candidate> entryPoints = List.of(new Candidate(current, distance(normalized, nodes.get(current).vector)));
+        for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+            List<Candidate> found = searchLayer(normalized, entryPoints, efConstruction, layer);
+            int maxLinks = layer == 0 ? maxLinksLayer0 : m;
+            List<Candidate> selected = found.subList(0, Math.min(m, found.size()));
+            for (Candidate neighbour : selected) {
+                node.link(layer, neighbour.node());
+                link(neighbour.node(), nodeIndex, layer, maxLinks);
+            }
+            entryPoints = found;
+        }
+
+        if (level > maxLevel) {
+            entryPoint = nodeIndex;
+            maxLevel = level;
+        }
+    }
+
+    private int greedyClosest(float[] query, int start, int layer) {
+        int current = start;
+        float currentDistance = distance(query, nodes.get(current).vector);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            Node node = nodes.get(current);
+            for (int i = 0; i < node.linkCounts[layer]; i++) {
+                int neighbour = node.links[layer][i];
+                float d = distance(query, nodes.get(neighbour).vector);
+                if (d < currentDistance) {
+                    currentDistance = d;
+                    current = neighbour;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Beam search on one layer; returns up to ef candidates sorted by ascending distance
+    private List<Candidate> searchLayer(float[] query, List<Candidate> entryPoints, int ef, int layer) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance));
+        PriorityQueue<Candidate> best = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance).reversed());
+        for (Candidate entry : entryPoints) {
+            if (!visited.get(entry.node())) {
+                visited.set(entry.node());
+                candidates.add(entry);
+                best.add(entry);
+            }
+        }
+        while (best.size() > ef) {
+            best.poll();
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate closest = candidates.poll();
+            if (best.size() >= ef && closest.distance() > best.peek().distance()) {
+                break;
+            }
+            Node node = nodes.get(closest.node());
+            if (layer > node.level) {
+                continue;
+            }
+            for (int i = 0; i < node.linkCounts[layer]; i++) {
+                int neighbour = node.links[layer][i];
+                if (visited.get(neighbour)) {
+                    continue;
+                }
+                visited.set(neighbour);
+                float d = distance(query, nodes.get(neighbour).vector);
+                if (best.size() < ef || d < best.peek().distance()) {
+                    Candidate candidate = new Candidate(neighbour, d);
+                    candidates.add(candidate);
+                    best.add(candidate);
+                    if (best.size() > ef) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(best);
+        sorted.sort(Comparator.comparingDouble(Candidate::distance));
+        return sorted;
+    }
+
+    // Adds a back-link, pruning the neighbour's links to its closest maxLinks when full
+    private void link(int from, int to, int layer, int maxLinks) {
+        Node node = nodes.get(from);
+        if (node.linkCounts[layer] < maxLinks) {
+            node.link(layer, to);
+            return;
+        }
+        List<Candidate> all = new ArrayList<>(maxLinks + 1);
+        for (int i = 0; i < node.linkCounts[layer]; i++) {
+            int neighbour = node.links[layer][i];
+            all.add(new Candidate(neighbour, distance(node.vector, nodes.get(neighbour).vector)));
+        }
+        all.add(new Candidate(to, distance(node.vector, nodes.get(to).vector)));
+        all.sort(Comparator.comparingDouble(Candidate::distance));
+        node.linkCounts[layer] = 0;
+        for (int i = 0; i < maxLinks; i++) {
+            node.link(layer, all.get(i).node());
+        }
+    }
+
+    private static float distance(float[] a, float[] b) {
+        float dot = 0f;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return 1.0f - dot;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0.0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        float[] normalized = Arrays.copyOf(vector, vector.length);
+        if (norm > 0.0) {
+            float inverse = (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < normalized.length; i++) {
+                normalized[i] *= inverse;
+            }
+        }
+        return normalized;
+    }
+
+    private final class Node {
+        final long documentId;
+        final float[] vector;
+        final int level;
+        final int[][] links;
+        final int[] linkCounts;
+        boolean deleted;
+
+        Node(long documentId, float[] vector, int level) {
+            this.documentId = documentId;
+            this.vector = vector;
+            this.level = level;
+            this.links = new int[level + 1][];
+            this.linkCounts = new int[level + 1];
+            for (int layer = 0; layer <= level; layer++) {
+                links[layer] = new int[(layer == 0 ? maxLinksLayer0 : m) + 1];
+            }
+        }
+
+        void link(int layer, int neighbour) {
+            links[layer][linkCounts[layer]++] = neighbour;
+        }
+    }
+
+    private record Candidate(int node, float distance) {
+    }
+
+    public record Neighbour(long documentId, float similarity) {
+    }
+}
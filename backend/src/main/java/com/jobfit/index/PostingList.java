@@ -0,0 +1,115 @@
+package com.jobfit.index;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Sorted, duplicate-free list of document ids backed by a primitive array
+public class PostingList {
+    private static final long[] EMPTY = new long[0];
+
+    private long[] ids = new long[4];
+    private int size;
+
+    public void add(long id) {
+        // Ids are generated in increasing order, so appending is the common case
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity(size + 1);
+            ids[size++] = id;
+            return;
+        }
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        ensureCapacity(size + 1);
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    public boolean remove(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return false;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(capacity, ids.length * 2));
+        }
+    }
+
+    // Sorted union of all lists, merged smallest-first to keep intermediate copies short
+    public static long[] union(List<PostingList> lists) {
+        long[] result = EMPTY;
+        List<PostingList> ordered = lists.stream()
+                .sorted((a, b) -> Integer.compare(a.size, b.size))
+                .toList();
+        for (PostingList list : ordered) {
+            result = merge(result, result.length, list.ids, list.size);
+        }
+        return result;
+    }
+
+    // Sorted intersection of all lists, driven by the shortest list
+    public static long[] intersection(List<PostingList> lists) {
+        if (lists.isEmpty()) {
+            return EMPTY;
+        }
+        List<PostingList> ordered = lists.stream()
+                .sorted((a, b) -> Integer.compare(a.size, b.size))
+                .toList();
+        long[] result = ordered.get(0).toArray();
+        int length = result.length;
+        for (int i = 1; i < ordered.size() && length > 0; i++) {
+            PostingList other = ordered.get(i);
+            int kept = 0;
+            for (int j = 0; j < length; j++) {
+                if (Arrays.binarySearch(other.ids, 0, other.size, result[j]) >= 0) {
+                    result[kept++] = result[j];
+                }
+            }
+            length = kept;
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    private static long[] merge(long[] a, int aLength, long[] b, int bLength) {
+        long[] merged = new long[aLength + bLength];
+        int i = 0, j = 0, k = 0;
+        while (i < aLength && j < bLength) {
+            if (a[i] < b[j]) {
+                merged[k++] = a[i++];
+            } else if (a[i] > b[j]) {
+                merged[k++] = b[j++];
+            } else {
+                merged[k++] = a[i++];
+                j++;
+            }
+        }
+        while (i < aLength) {
+            merged[k++] = a[i++];
+        }
+        while (j < bLength) {
+            merged[k++] = b[j++];
+        }
+        return k == merged.length ? merged : Arrays.copyOf(merged, k);
+    }
+}
@@ -0,0 +1,176 @@
+package com.jobfit.index;
+
+import com.jobfit.repository.ResumeRepository;
+import com.jobfit.scoring.SkillDictionary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index from skill id to the ids of resumes listing that skill
+@Component
+public class SkillIndex {
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private final Map<Long, int[]> skillsByResume = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Resumes indexed (or removed, as null) while a rebuild reads its snapshot; null otherwise
+    private Map<Long, int[]> changedSinceSnapshot;
+
+    // The snapshot is read without the lock so searches keep running; updates made meanwhile are
+    // recorded and re-applied on top of it, since the snapshot may predate them
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        lock.writeLock().lock();
+        try {
+            changedSinceSnapshot = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            for (Object[] row : resumeRepository.findAllResumeSkillPairs()) {
+                grouped.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedSinceSnapshot = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            skillsByResume.clear();
+            grouped.forEach((resumeId, skills) -> addLocked(resumeId, skillDictionary.encode(skills)));
+            changedSinceSnapshot.forEach((resumeId, skillIds) -> {
+                removeLocked(resumeId);
+                if (skillIds != null) {
+                    addLocked(resumeId, skillIds);
+                }
+            });
+            changedSinceSnapshot = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Long resumeId, Collection<String> skills) {
+        index(resumeId, skillDictionary.encode(skills));
+    }
+
+    public void index(Long resumeId, int[] skillIds) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(resumeId);
+            addLocked(resumeId, skillIds);
+            if (changedSinceSnapshot != null) {
+                changedSinceSnapshot.put(resumeId, skillIds);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long resumeId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(resumeId);
+            if (changedSinceSnapshot != null) {
+                changedSinceSnapshot.put(resumeId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Sorted skill ids captured when the resume was indexed; callers must not modify the array
+    public int[] skillIdsOf(Long resumeId) {
+        lock.readLock().lock();
+        try {
+            return skillsByResume.get(resumeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Resumes sharing at least one of the given skills, in ascending id order
+    public long[] findResumesWithAnySkill(int[] skillIds) {
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(skillIds.length);
+            for (int skillId : skillIds) {
+                PostingList list = postings.get(skillId);
+                if (list != null) {
+                    lists.add(list);
+                }
+            }
+            return PostingList.union(lists);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Resumes listing every one of the given skills, in ascending id order
+    public long[] findResumesWithAllSkills(int[] skillIds) {
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(skillIds.length);
+            for (int skillId : skillIds) {
+                PostingList list = postings.get(skillId);
+                if (list == null) {
+                    return new long[0];
+                }
+                lists.add(list);
+            }
+            return PostingList.intersection(lists);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return skillsByResume.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(Long resumeId, int[] skillIds) {
+        if (resumeId == null || skillIds.length == 0) {
+            return;
+        }
+        for (int skillId : skillIds) {
+            postings.computeIfAbsent(skillId, s -> new PostingList()).add(resumeId);
+        }
+        skillsByResume.put(resumeId, skillIds);
+    }
+
+    private void removeLocked(Long resumeId) {
+        int[] previous = skillsByResume.remove(resumeId);
+        if (previous == null) {
+            return;
+        }
+        for (int skillId : previous) {
+            PostingList list = postings.get(skillId);
+            if (list != null && list.remove(resumeId) && list.isEmpty()) {
+                postings.remove(skillId);
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.jobfit.repository;
+
+import com.jobfit.entity.DocumentEmbedding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DocumentEmbeddingRepository extends JpaRepository<DocumentEmbedding, String> {
+}
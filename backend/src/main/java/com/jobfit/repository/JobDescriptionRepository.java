@@ -1,13 +1,38 @@
 package com.jobfit.repository;
 
+import com.jobfit.dto.JobDescriptionSummaryDto;
 import com.jobfit.entity.JobDescription;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface JobDescriptionRepository extends JpaRepository<JobDescription, Long> {
     List<JobDescription> findByUserId(Long userId);
-    List<JobDescription> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // Newest-first summaries in one query, never touching the description text; later pages
+    // continue from the (createdAt, id) of the previous last row
+    @Query("select new com.jobfit.dto.JobDescriptionSummaryDto(j.id, j.title, j.company, j.createdAt, "
+            + "size(j.requiredSkills)) from JobDescription j "
+            + "where j.user.id = :userId order by j.createdAt desc, j.id desc")
+    List<JobDescriptionSummaryDto> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable page);
+
+    @Query("select new com.jobfit.dto.JobDescriptionSummaryDto(j.id, j.title, j.company, j.createdAt, "
+            + "size(j.requiredSkills)) from JobDescription j "
+            + "where j.user.id = :userId and (j.createdAt < :createdAt "
+            + "or (j.createdAt = :createdAt and j.id < :id)) "
+            + "order by j.createdAt desc, j.id desc")
+    List<JobDescriptionSummaryDto> findByUserIdOrderByCreatedAtDescAfter(@Param("userId") Long userId,
+                                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                                         @Param("id") Long id,
+                                                                         Pageable page);
+
+    // (id, description) rows in id order, continuing after afterId; for walking all job descriptions in pages
+    @Query("select j.id, j.description from JobDescription j where j.id > :afterId order by j.id")
+    List<Object[]> findIdAndDescriptionAfter(@Param("afterId") Long afterId, Pageable page);
 } 
\ No newline at end of file
@@ -1,16 +1,49 @@
 package com.jobfit.repository;
 
+import com.jobfit.dto.MatchSummaryDto;
 import com.jobfit.entity.MatchResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MatchResultRepository extends JpaRepository<MatchResult, Long> {
-    List<MatchResult> findByResumeUserId(Long userId);
+    // A user's match history, best first, as one join over idx_match_results_owner_score;
+    // later pages continue from the (overallScore, id) of the previous last row
+    @Query("select new com.jobfit.dto.MatchSummaryDto(m.id, r.id, r.fileName, j.id, j.title, j.company, "
+            + "m.overallScore, m.skillsScore, m.experienceScore, m.educationScore, m.semanticSimilarity, "
+            + "m.createdAt) from MatchResult m join m.resume r join m.jobDescription j "
+            + "where m.resumeOwnerId = :userId order by m.overallScore desc, m.id desc")
+    List<MatchSummaryDto> findSummariesByResumeOwner(@Param("userId") Long userId, Pageable page);
+
+    @Query("select new com.jobfit.dto.MatchSummaryDto(m.id, r.id, r.fileName, j.id, j.title, j.company, "
+            + "m.overallScore, m.skillsScore, m.experienceScore, m.educationScore, m.semanticSimilarity, "
+            + "m.createdAt) from MatchResult m join m.resume r join m.jobDescription j "
+            + "where m.resumeOwnerId = :userId and (m.overallScore < :score "
+            + "or (m.overallScore = :score and m.id < :id)) "
+            + "order by m.overallScore desc, m.id desc")
+    List<MatchSummaryDto> findSummariesByResumeOwnerAfter(@Param("userId") Long userId,
+                                                          @Param("score") Double score,
+                                                          @Param("id") Long id,
+                                                          Pageable page);
+
+    // Fills resume_owner_id on rows written before the column existed
+    @Modifying
+    @Transactional
+    @Query("update MatchResult m set m.resumeOwnerId = "
+            + "(select r.user.id from Resume r where r = m.resume) where m.resumeOwnerId is null")
+    int backfillResumeOwnerIds();
+
     List<MatchResult> findByJobDescriptionUserId(Long userId);
     Optional<MatchResult> findByResumeIdAndJobDescriptionId(Long resumeId, Long jobDescriptionId);
     List<MatchResult> findByResumeIdAndJobDescriptionIdOrderByOverallScoreDesc(Long resumeId, Long jobDescriptionId);
+    List<MatchResult> findByJobDescriptionIdAndResumeIdIn(Long jobDescriptionId, Collection<Long> resumeIds);
 } 
\ No newline at end of file
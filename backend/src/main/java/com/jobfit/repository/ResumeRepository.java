@@ -1,13 +1,43 @@
 package com.jobfit.repository;
 
+import com.jobfit.dto.ResumeSummaryDto;
 import com.jobfit.entity.Resume;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
     List<Resume> findByUserId(Long userId);
-    List<Resume> findByUserIdOrderByUploadedAtDesc(Long userId);
+
+    // Newest-first summaries in one query, never touching the text columns; the page size comes
+    // from the Pageable and later pages continue from the (uploadedAt, id) of the previous last row
+    @Query("select new com.jobfit.dto.ResumeSummaryDto(r.id, r.fileName, r.contentType, r.contentSize, "
+            + "r.uploadedAt, size(r.skills)) from Resume r "
+            + "where r.user.id = :userId order by r.uploadedAt desc, r.id desc")
+    List<ResumeSummaryDto> findByUserIdOrderByUploadedAtDesc(@Param("userId") Long userId, Pageable page);
+
+    @Query("select new com.jobfit.dto.ResumeSummaryDto(r.id, r.fileName, r.contentType, r.contentSize, "
+            + "r.uploadedAt, size(r.skills)) from Resume r "
+            + "where r.user.id = :userId and (r.uploadedAt < :uploadedAt "
+            + "or (r.uploadedAt = :uploadedAt and r.id < :id)) "
+            + "order by r.uploadedAt desc, r.id desc")
+    List<ResumeSummaryDto> findByUserIdOrderByUploadedAtDescAfter(@Param("userId") Long userId,
+                                                                  @Param("uploadedAt") LocalDateTime uploadedAt,
+                                                                  @Param("id") Long id,
+                                                                  Pageable page);
+
+    long countByContentHash(String contentHash);
+
+    @Query("select r.id, s from Resume r join r.skills s")
+    List<Object[]> findAllResumeSkillPairs();
+
+    // (id, extractedText) rows in id order, continuing after afterId; for walking all resumes in pages
+    @Query("select r.id, r.extractedText from Resume r where r.id > :afterId order by r.id")
+    List<Object[]> findIdAndExtractedTextAfter(@Param("afterId") Long afterId, Pageable page);
 } 
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.jobfit.scoring;
+
+import java.util.Locale;
+
+// Feature-hashing text embedder: unigrams and adjacent bigrams are hashed into a fixed number
+// of signed buckets with sublinear term weighting, then L2-normalized so cosine is a dot product
+public final class HashingEmbedder {
+    private final int dimension;
+
+    public HashingEmbedder(int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("Embedding dimension must be positive");
+        }
+        this.dimension = dimension;
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    public float[] embed(String text) {
+        float[] counts = new float[dimension];
+        if (text == null || text.isEmpty()) {
+            return counts;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int previousHash = 0;
+        boolean hasPrevious = false;
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(lower.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            int hash = 0;
+            while (i < length && isTokenChar(lower.charAt(i))) {
+                hash = 31 * hash + lower.charAt(i);
+                i++;
+            }
+            if (i == start) {
+                continue;
+            }
+            add(counts, mix(hash));
+            if (hasPrevious) {
+                add(counts, mix(previousHash * 0x9E3779B1 + hash));
+            }
+            previousHash = hash;
+            hasPrevious = true;
+        }
+
+        double norm = 0.0;
+        for (int d = 0; d < dimension; d++) {
+            float c = counts[d];
+            if (c != 0f) {
+                // Sublinear weighting keeps long, repetitive documents from dominating
+                float weighted = (float) (Math.signum(c) * (1.0 + Math.log(Math.abs(c))));
+                counts[d] = weighted;
+                norm += weighted * weighted;
+            }
+        }
+        if (norm > 0.0) {
+            float inverse = (float) (1.0 / Math.sqrt(norm));
+            for (int d = 0; d < dimension; d++) {
+                counts[d] *= inverse;
+            }
+        }
+        return counts;
+    }
+
+    // Cosine similarity of two vectors produced by embed(), clamped to [0, 1]
+    public static float cosine(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Embedding dimensions differ: " + a.length + " vs " + b.length);
+        }
+        double dot = 0.0, normA = 0.0, normB = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        if (normA == 0.0 || normB == 0.0) {
+            return 0f;
+        }
+        double cosine = dot / (Math.sqrt(normA) * Math.sqrt(normB));
+        return (float) Math.max(0.0, Math.min(1.0, cosine));
+    }
+
+    private void add(float[] counts, int hash) {
+        int bucket = Math.floorMod(hash, dimension);
+        // A second hash bit picks the sign so collisions tend to cancel rather than accumulate
+        counts[bucket] += (hash & 0x80000000) == 0 ? 1f : -1f;
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+    }
+
+    // Murmur3 finalizer to spread String-style hashes across buckets
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
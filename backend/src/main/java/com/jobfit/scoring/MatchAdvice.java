@@ -0,0 +1,54 @@
+package com.jobfit.scoring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Template text shown with a detailed match. Derived entirely from the stored scores and
+// missing skills, so it is rendered on read and never persisted.
+public final class MatchAdvice {
+    private MatchAdvice() {
+    }
+
+    public static List<String> improvementSuggestions(List<String> missingSkills, double skillsScore, double overallScore) {
+        List<String> suggestions = new ArrayList<>();
+        
+        if (overallScore < 0.5) {
+            suggestions.add("Your resume needs significant improvements to match this job requirement");
+        }
+        
+        if (skillsScore < 0.5) {
+            suggestions.add("Consider adding more relevant technical skills to your resume");
+        }
+        
+        if (skillsScore < 0.7) {
+            suggestions.add("Highlight your most relevant skills at the top of your resume");
+        }
+        
+        for (String skill : missingSkills) {
+            suggestions.add("Consider adding " + skill + " to your skills section or gaining experience with it");
+        }
+        
+        if (suggestions.isEmpty()) {
+            suggestions.add("Your resume looks well-aligned with the job requirements!");
+        }
+        
+        return suggestions;
+    }
+
+    public static List<String> learningResources(List<String> missingSkills) {
+        List<String> resources = new ArrayList<>();
+        
+        for (String skill : missingSkills) {
+            resources.add("LinkedIn Learning: " + skill + " courses");
+            resources.add("Coursera: " + skill + " specialization");
+            resources.add("Udemy: " + skill + " tutorials");
+            resources.add("YouTube: " + skill + " tutorial videos");
+        }
+        
+        if (resources.isEmpty()) {
+            resources.add("No specific learning resources needed. Your skills match well!");
+        }
+        
+        return resources;
+    }
+}
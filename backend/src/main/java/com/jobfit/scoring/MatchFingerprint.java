@@ -0,0 +1,62 @@
+package com.jobfit.scoring;
+
+import com.jobfit.entity.JobDescription;
+import com.jobfit.entity.Resume;
+import com.jobfit.util.Hashing;
+
+import java.util.List;
+
+// Identifies everything a match score depends on. A stored MatchResult whose fingerprint
+// equals the current one would be recomputed to the same values, so it can be reused.
+public final class MatchFingerprint {
+    // Bump whenever scoring logic, weights or the stored result layout change, to invalidate
+    // every stored result (2: match details moved to a single JSON column; 3: experience and
+    // education match whole terms rather than substrings, see TermVector.coverageBy)
+    public static final int SCORING_VERSION = 3;
+
+    private MatchFingerprint() {
+    }
+
+    public static String of(Resume resume, JobDescription jobDescription, String providerName, boolean semanticEnabled) {
+        return of(resume, contentHash(jobDescription), providerName, semanticEnabled);
+    }
+
+    // For callers fingerprinting many resumes against one job description
+    public static String of(Resume resume, String jobDescriptionHash, String providerName, boolean semanticEnabled) {
+        return Hashing.sha256Hex(SCORING_VERSION
+                + "\n" + contentHash(resume)
+                + "\n" + jobDescriptionHash
+                + "\n" + providerName
+                + "\n" + semanticEnabled);
+    }
+
+    // Resumes are immutable after ingestion, so the upload's hash plus its extracted text covers them
+    public static String contentHash(Resume resume) {
+        return Hashing.sha256Hex(resume.getContentHash() + "\n" + resume.getExtractedText());
+    }
+
+    // Stored hash, or computed for rows saved before it existed
+    public static String contentHash(JobDescription jobDescription) {
+        String stored = jobDescription.getContentHash();
+        return stored != null ? stored : computeContentHash(jobDescription);
+    }
+
+    // Covers the description and everything extracted from it, since extraction can differ between runs
+    public static String computeContentHash(JobDescription jobDescription) {
+        StringBuilder content = new StringBuilder();
+        content.append(jobDescription.getDescription());
+        append(content, jobDescription.getRequiredSkills());
+        append(content, jobDescription.getExperienceRequirements());
+        append(content, jobDescription.getEducationRequirements());
+        return Hashing.sha256Hex(content.toString());
+    }
+
+    private static void append(StringBuilder content, List<String> values) {
+        content.append('\u0000');
+        if (values != null) {
+            for (String value : values) {
+                content.append(value).append('\u0001');
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobfit.scoring;
+
+// How the component scores of a match combine into its overall score. Changing a weight changes
+// stored scores, so bump MatchFingerprint.SCORING_VERSION with it.
+public final class ScoreWeights {
+    private ScoreWeights() {
+    }
+
+    // With semantic scoring, most weight goes to semantic similarity
+    public static double combine(double semantic, double skills, double experience, double education) {
+        return (semantic * 0.4) + (skills * 0.3) + (experience * 0.2) + (education * 0.1);
+    }
+
+    // Traditional weights when semantic scoring is disabled
+    public static double combineWithoutSemantic(double skills, double experience, double education) {
+        return (skills * 0.5) + (experience * 0.3) + (education * 0.2);
+    }
+}
@@ -0,0 +1,75 @@
+package com.jobfit.scoring;
+
+import com.jobfit.entity.JobDescription;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Process-wide mapping from canonical skill name to a dense integer id.
+// Ids are only stable for the lifetime of the JVM and are never persisted.
+@Component
+public class SkillDictionary {
+    public static final int UNKNOWN = -1;
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public int intern(String skill) {
+        String canonical = canonicalize(skill);
+        if (canonical.isEmpty()) {
+            return UNKNOWN;
+        }
+        return ids.computeIfAbsent(canonical, s -> nextId.getAndIncrement());
+    }
+
+    // Id of an already known skill, without registering new ones
+    public int lookup(String skill) {
+        return ids.getOrDefault(canonicalize(skill), UNKNOWN);
+    }
+
+    // Sorted, distinct ids suitable for SkillSet operations
+    public int[] encode(Collection<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return SkillSet.EMPTY;
+        }
+        int[] encoded = new int[skills.size()];
+        int count = 0;
+        for (String skill : skills) {
+            int id = intern(skill);
+            if (id != UNKNOWN) {
+                encoded[count++] = id;
+            }
+        }
+        return SkillSet.sortedDistinct(encoded, count);
+    }
+
+    // Ids in list order, one per entry (UNKNOWN for blank entries)
+    public int[] encodeOrdered(List<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return SkillSet.EMPTY;
+        }
+        int[] encoded = new int[skills.size()];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = intern(skills.get(i));
+        }
+        return encoded;
+    }
+
+    public void encodeRequiredSkills(JobDescription jobDescription) {
+        int[] ordered = encodeOrdered(jobDescription.getRequiredSkills());
+        jobDescription.setRequiredSkillIds(ordered);
+        jobDescription.setRequiredSkillSet(SkillSet.sortedDistinct(ordered, ordered.length));
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public static String canonicalize(String skill) {
+        return skill == null ? "" : skill.trim().toLowerCase(Locale.ROOT);
+    }
+}
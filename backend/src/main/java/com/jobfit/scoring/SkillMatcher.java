@@ -0,0 +1,205 @@
+package com.jobfit.scoring;
+
+import java.util.*;
+
+// Immutable Aho-Corasick automaton over lower-cased skill phrases. One left-to-right pass
+// finds every phrase occurrence; occurrences must sit on word boundaries, and overlapping
+// occurrences resolve leftmost-longest so "Node.js" is not also reported as "JS".
+public class SkillMatcher {
+    private static final int ROOT = 0;
+
+    // Per-state sorted transition labels and targets, searched with binary search
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    // Phrases ending at each state (including those reached through fail links)
+    private final int[][] outputs;
+
+    private final int[] phraseLength;
+    private final int[] phraseSkill;
+    private final String[] skills;
+
+    // synonyms maps each canonical skill name to the phrases (synonyms) that denote it;
+    // the canonical name itself always matches
+    public SkillMatcher(Map<String, ? extends Collection<String>> synonyms) {
+        List<String> skillNames = new ArrayList<>();
+        Map<String, Integer> phrases = new LinkedHashMap<>();
+        for (Map.Entry<String, ? extends Collection<String>> entry : synonyms.entrySet()) {
+            int skill = skillNames.size();
+            skillNames.add(entry.getKey());
+            phrases.putIfAbsent(normalize(entry.getKey()), skill);
+            for (String synonym : entry.getValue()) {
+                String phrase = normalize(synonym);
+                if (!phrase.isEmpty()) {
+                    phrases.putIfAbsent(phrase, skill);
+                }
+            }
+        }
+        this.skills = skillNames.toArray(new String[0]);
+        this.phraseLength = new int[phrases.size()];
+        this.phraseSkill = new int[phrases.size()];
+
+        // Build the trie with tree maps, then freeze it into sorted arrays
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+        int phraseId = 0;
+        for (Map.Entry<String, Integer> entry : phrases.entrySet()) {
+            String phrase = entry.getKey();
+            int state = ROOT;
+            for (int i = 0; i < phrase.length(); i++) {
+                Integer next = trie.get(state).get(phrase.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(phrase.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    ends.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            phraseLength[phraseId] = phrase.length();
+            phraseSkill[phraseId] = entry.getValue();
+            ends.get(state).add(phraseId);
+            phraseId++;
+        }
+
+        int states = trie.size();
+        this.labels = new char[states][];
+        this.targets = new int[states][];
+        for (int s = 0; s < states; s++) {
+            TreeMap<Character, Integer> edges = trie.get(s);
+            labels[s] = new char[edges.size()];
+            targets[s] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[s][i] = edge.getKey();
+                targets[s][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // Breadth-first fail links; outputs of a state include those of its fail state
+        this.fail = new int[states];
+        this.outputs = new int[states][];
+        outputs[ROOT] = new int[0];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int[] inherited = outputs[fail[state]];
+            List<Integer> own = ends.get(state);
+            int[] merged = Arrays.copyOf(inherited, inherited.length + own.size());
+            for (int i = 0; i < own.size(); i++) {
+                merged[inherited.length + i] = own.get(i);
+            }
+            outputs[state] = merged;
+
+            for (int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                int f = fail[state];
+                int next;
+                while ((next = step(f, labels[state][i])) < 0 && f != ROOT) {
+                    f = fail[f];
+                }
+                fail[child] = next >= 0 && next != child ? next : ROOT;
+                queue.add(child);
+            }
+        }
+    }
+
+    // Canonical skill names found in text, de-duplicated, in order of first occurrence
+    public List<String> findSkills(String text) {
+        if (text == null || text.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Candidate occurrences as (start, phrase) pairs, collected in order of end position
+        long[] found = new long[16];
+        int count = 0;
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = normalize(text.charAt(i));
+            int next;
+            while ((next = step(state, c)) < 0 && state != ROOT) {
+                state = fail[state];
+            }
+            state = Math.max(next, ROOT);
+            for (int phrase : outputs[state]) {
+                int start = i - phraseLength[phrase] + 1;
+                if (isBoundary(text, start - 1) && isBoundary(text, i + 1)) {
+                    if (count == found.length) {
+                        found = Arrays.copyOf(found, count * 2);
+                    }
+                    found[count++] = ((long) start << 32) | phrase;
+                }
+            }
+        }
+
+        // Leftmost-longest selection of non-overlapping occurrences
+        long[] byStart = Arrays.copyOf(found, count);
+        Arrays.sort(byStart);
+        boolean[] seen = new boolean[skills.length];
+        List<String> result = new ArrayList<>();
+        int coveredUntil = 0;
+        for (int i = 0; i < count; ) {
+            int start = (int) (byStart[i] >>> 32);
+            int best = -1;
+            for (; i < count && (int) (byStart[i] >>> 32) == start; i++) {
+                int phrase = (int) byStart[i];
+                if (best < 0 || phraseLength[phrase] > phraseLength[best]) {
+                    best = phrase;
+                }
+            }
+            if (start < coveredUntil) {
+                continue;
+            }
+            coveredUntil = start + phraseLength[best];
+            int skill = phraseSkill[best];
+            if (!seen[skill]) {
+                seen[skill] = true;
+                result.add(skills[skill]);
+            }
+        }
+        return result;
+    }
+
+    public int skillCount() {
+        return skills.length;
+    }
+
+    public int phraseCount() {
+        return phraseLength.length;
+    }
+
+    private int step(int state, char c) {
+        int i = Arrays.binarySearch(labels[state], c);
+        return i >= 0 ? targets[state][i] : -1;
+    }
+
+    private static boolean isBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    private static char normalize(char c) {
+        return Character.isWhitespace(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    private static String normalize(String phrase) {
+        StringBuilder normalized = new StringBuilder(phrase.length());
+        for (String word : phrase.trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                if (normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                for (int i = 0; i < word.length(); i++) {
+                    normalized.append(Character.toLowerCase(word.charAt(i)));
+                }
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.jobfit.scoring;
+
+import java.util.Arrays;
+
+// Operations over sorted, duplicate-free int arrays of skill ids
+public final class SkillSet {
+    public static final int[] EMPTY = new int[0];
+
+    private SkillSet() {
+    }
+
+    // Sorted copy of the first length values with duplicates and negative (unknown) ids removed
+    public static int[] sortedDistinct(int[] values, int length) {
+        int[] sorted = Arrays.copyOf(values, length);
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int value : sorted) {
+            if (value >= 0 && (unique == 0 || value != sorted[unique - 1])) {
+                sorted[unique++] = value;
+            }
+        }
+        if (unique == 0) {
+            return EMPTY;
+        }
+        return unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique);
+    }
+
+    public static boolean contains(int[] set, int id) {
+        return Arrays.binarySearch(set, id) >= 0;
+    }
+
+    public static int intersectionSize(int[] a, int[] b) {
+        int i = 0, j = 0, count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    public static double jaccard(int[] a, int[] b) {
+        int intersection = intersectionSize(a, b);
+        int union = a.length + b.length - intersection;
+        return union == 0 ? 0.0 : (double) intersection / union;
+    }
+}
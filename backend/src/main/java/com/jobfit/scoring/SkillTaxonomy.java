@@ -0,0 +1,96 @@
+package com.jobfit.scoring;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Canonical skill names and their synonyms, loaded from a text resource with one skill per line:
+//   Canonical Name: synonym, another synonym
+// Blank lines and lines starting with '#' are ignored. The compiled matcher is published as an
+// immutable snapshot, so reload() swaps it in without blocking concurrent extractions.
+@Component
+public class SkillTaxonomy {
+    @Value("${skills.taxonomy.location:classpath:skills-taxonomy.txt}")
+    private String location;
+
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void init() throws IOException {
+        reload();
+    }
+
+    public List<String> findSkills(String text) {
+        return snapshot.matcher().findSkills(text);
+    }
+
+    public SkillMatcher getMatcher() {
+        return snapshot.matcher();
+    }
+
+    // Re-reads the taxonomy; on error the previous snapshot stays in place
+    public synchronized Map<String, Object> reload() throws IOException {
+        Resource resource = resourceLoader.getResource(location);
+        Map<String, List<String>> synonyms;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            synonyms = parse(reader);
+        }
+        if (synonyms.isEmpty()) {
+            throw new IOException("Skill taxonomy at " + location + " defines no skills");
+        }
+        snapshot = new Snapshot(new SkillMatcher(synonyms), LocalDateTime.now());
+        return describe();
+    }
+
+    public Map<String, Object> describe() {
+        Snapshot current = snapshot;
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("location", location);
+        description.put("skills", current.matcher().skillCount());
+        description.put("phrases", current.matcher().phraseCount());
+        description.put("loadedAt", current.loadedAt());
+        return description;
+    }
+
+    static Map<String, List<String>> parse(BufferedReader reader) throws IOException {
+        Map<String, List<String>> synonyms = new LinkedHashMap<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            String canonical = (colon < 0 ? line : line.substring(0, colon)).trim();
+            if (canonical.isEmpty()) {
+                continue;
+            }
+            List<String> names = synonyms.computeIfAbsent(canonical, k -> new ArrayList<>());
+            if (colon >= 0) {
+                for (String synonym : line.substring(colon + 1).split(",")) {
+                    if (!synonym.isBlank()) {
+                        names.add(synonym.trim());
+                    }
+                }
+            }
+        }
+        return synonyms;
+    }
+
+    private record Snapshot(SkillMatcher matcher, LocalDateTime loadedAt) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.jobfit.scoring;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Term-frequency view of a list of phrases: lower-cased whitespace tokens, of which only
+// those long enough to be meaningful (MIN_TERM_LENGTH) are kept, sorted for merge joins
+public final class TermVector {
+    public static final int MIN_TERM_LENGTH = 4;
+    public static final TermVector EMPTY = new TermVector(new String[0], new int[0], 0);
+
+    private final String[] terms;
+    private final int[] counts;
+    private final int totalTokens;
+
+    public TermVector(String[] terms, int[] counts, int totalTokens) {
+        this.terms = terms;
+        this.counts = counts;
+        this.totalTokens = totalTokens;
+    }
+
+    public static TermVector of(List<String> phrases) {
+        if (phrases == null || phrases.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, Integer> frequencies = new TreeMap<>();
+        int total = 0;
+        for (String phrase : phrases) {
+            if (phrase == null) {
+                continue;
+            }
+            String lower = phrase.toLowerCase(Locale.ROOT);
+            int i = 0, length = lower.length();
+            while (i < length) {
+                while (i < length && Character.isWhitespace(lower.charAt(i))) {
+                    i++;
+                }
+                int start = i;
+                while (i < length && !Character.isWhitespace(lower.charAt(i))) {
+                    i++;
+                }
+                if (i > start) {
+                    total++;
+                    if (i - start >= MIN_TERM_LENGTH) {
+                        frequencies.merge(lower.substring(start, i), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        String[] terms = new String[frequencies.size()];
+        int[] counts = new int[frequencies.size()];
+        int index = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            terms[index] = entry.getKey();
+            counts[index++] = entry.getValue();
+        }
+        return new TermVector(terms, counts, total);
+    }
+
+    // Fraction of this vector's tokens (required side) whose term also occurs in the other vector.
+    // Terms must be equal: "java" no longer matches inside "javascript" as the old substring
+    // check did, so required terms that only appeared as part of longer words now count as misses
+    public double coverageBy(TermVector other) {
+        if (totalTokens == 0) {
+            return 0.0;
+        }
+        int matched = 0;
+        int i = 0, j = 0;
+        while (i < terms.length && j < other.terms.length) {
+            int cmp = terms[i].compareTo(other.terms[j]);
+            if (cmp < 0) {
+                i++;
+            } else if (cmp > 0) {
+                j++;
+            } else {
+                matched += counts[i];
+                i++;
+                j++;
+            }
+        }
+        return (double) matched / totalTokens;
+    }
+
+    public boolean isEmpty() {
+        return totalTokens == 0;
+    }
+
+    public int getTotalTokens() {
+        return totalTokens;
+    }
+
+    public String[] getTerms() {
+        return terms;
+    }
+
+    public int[] getCounts() {
+        return counts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TermVector other)) {
+            return false;
+        }
+        return totalTokens == other.totalTokens
+                && Arrays.equals(terms, other.terms)
+                && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(terms) + Arrays.hashCode(counts)) + totalTokens;
+    }
+}
@@ -0,0 +1,41 @@
+package com.jobfit.scoring;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Stores a TermVector as "<totalTokens> term:count term:count ..."; terms never contain whitespace
+@Converter
+public class TermVectorConverter implements AttributeConverter<TermVector, String> {
+
+    @Override
+    public String convertToDatabaseColumn(TermVector vector) {
+        if (vector == null) {
+            return null;
+        }
+        String[] terms = vector.getTerms();
+        int[] counts = vector.getCounts();
+        StringBuilder sb = new StringBuilder(16 + terms.length * 12);
+        sb.append(vector.getTotalTokens());
+        for (int i = 0; i < terms.length; i++) {
+            sb.append(' ').append(terms[i]).append(':').append(counts[i]);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public TermVector convertToEntityAttribute(String data) {
+        if (data == null || data.isEmpty()) {
+            return null;
+        }
+        String[] parts = data.split(" ");
+        int total = Integer.parseInt(parts[0]);
+        String[] terms = new String[parts.length - 1];
+        int[] counts = new int[parts.length - 1];
+        for (int i = 1; i < parts.length; i++) {
+            int separator = parts[i].lastIndexOf(':');
+            terms[i - 1] = parts[i].substring(0, separator);
+            counts[i - 1] = Integer.parseInt(parts[i].substring(separator + 1));
+        }
+        return new TermVector(terms, counts, total);
+    }
+}
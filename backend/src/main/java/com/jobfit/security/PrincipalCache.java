@@ -0,0 +1,81 @@
+package com.jobfit.security;
+
+import com.jobfit.util.BoundedLruCache;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Verified bearer tokens and the principal each one resolved to, so a repeat request skips
+// both the JWT parse and the user lookup. Entries live for at most ttlMs and never past the
+// token's own expiry; PrincipalCacheEvictionListener drops a user's entries when the user
+// row changes on this instance, and the short TTL bounds staleness across instances.
+// Invalidation also bumps a generation per username (striped), which callers read before
+// loading a principal: a load that overlapped an invalidation is then not cached.
+@Component
+public class PrincipalCache {
+    private record Entry(UserDetailsImpl principal, long expiresAtMillis) {
+    }
+
+    @Value("${jwt.principal-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${jwt.principal-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private BoundedLruCache<String, Entry> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new BoundedLruCache<>(maxEntries, maxEntries, entry -> 1);
+    }
+
+    public UserDetailsImpl get(String token) {
+        Entry entry = cache.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAtMillis()) {
+            cache.remove(token);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    // Read before loading the principal for username and pass it to put
+    public long generation(String username) {
+        return generations.get(stripe(username));
+    }
+
+    // Skipped if the user was invalidated since generation was read, as the principal may predate it
+    public synchronized void put(String token, UserDetailsImpl principal, Date tokenExpiration, long generation) {
+        if (generations.get(stripe(principal.getUsername())) != generation) {
+            return;
+        }
+        long expiresAt = System.currentTimeMillis() + ttlMs;
+        if (tokenExpiration != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiration.getTime());
+        }
+        cache.put(token, new Entry(principal, expiresAt));
+    }
+
+    public synchronized void invalidateUser(Long userId, String username) {
+        generations.incrementAndGet(stripe(username));
+        cache.removeIfValue(entry -> entry.principal().getId().equals(userId));
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    // Case-folded, since the user lookup may match a token's subject case-insensitively
+    private static int stripe(String username) {
+        return Math.floorMod(username.toLowerCase(Locale.ROOT).hashCode(), GENERATION_STRIPES);
+    }
+}
@@ -0,0 +1,35 @@
+package com.jobfit.security;
+
+import com.jobfit.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// JPA listener on User: any update (role, password, ...) or deletion evicts the user's cached
+// principals. Hibernate obtains it from the Spring context, so the field is injected.
+// The callbacks run before commit, while other requests can still read the old row, so the
+// eviction is repeated once the transaction has committed.
+@Component
+public class PrincipalCacheEvictionListener {
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        Long userId = user.getId();
+        String username = user.getUsername();
+        principalCache.invalidateUser(userId, username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.invalidateUser(userId, username);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.jobfit.service;
+
+import com.jobfit.entity.DocumentEmbedding;
+import com.jobfit.repository.DocumentEmbeddingRepository;
+import com.jobfit.scoring.HashingEmbedder;
+import com.jobfit.util.BoundedLruCache;
+import com.jobfit.util.Hashing;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Embeds each distinct document text once per provider, keeping vectors in the
+// document_embeddings table with an in-memory LRU in front of it
+@Service
+public class EmbeddingService {
+    @Autowired
+    private SemanticSimilarityProvider semanticSimilarityProvider;
+
+    @Autowired
+    private DocumentEmbeddingRepository documentEmbeddingRepository;
+
+    @Value("${semantic.embedding-cache.max-entries:50000}")
+    private int maxEntries;
+
+    @Value("${semantic.embedding-cache.max-bytes:134217728}")
+    private long maxBytes;
+
+    private BoundedLruCache<String, float[]> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new BoundedLruCache<>(maxEntries, maxBytes, vector -> (long) vector.length * Float.BYTES);
+    }
+
+    public boolean isEnabled() {
+        return semanticSimilarityProvider.supportsEmbeddings();
+    }
+
+    public float similarity(String text1, String text2) {
+        return HashingEmbedder.cosine(embeddingFor(text1), embeddingFor(text2));
+    }
+
+    public float[] embeddingFor(String text) {
+        String key = keyOf(text);
+
+        float[] vector = cache.get(key);
+        if (vector != null) {
+            return vector;
+        }
+
+        Optional<DocumentEmbedding> stored = documentEmbeddingRepository.findById(key);
+        if (stored.isPresent()) {
+            vector = decode(stored.get().getVector());
+        } else {
+            vector = semanticSimilarityProvider.embed(text);
+            try {
+                documentEmbeddingRepository.save(new DocumentEmbedding(
+                        key, semanticSimilarityProvider.getName(), vector.length, encode(vector)));
+            } catch (DataIntegrityViolationException e) {
+                // Another request embedded the same text concurrently; its row is equivalent
+            }
+        }
+
+        cache.put(key, vector);
+        return vector;
+    }
+
+    // Bulk form of embeddingFor: misses are looked up in one query and the rest embedded in one
+    // provider call. If that call fails the texts it covered come back as null.
+    public List<float[]> embeddingsFor(List<String> texts) {
+        List<float[]> vectors = new ArrayList<>(Collections.nCopies(texts.size(), null));
+        Map<String, List<Integer>> missing = new LinkedHashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            String key = keyOf(texts.get(i));
+            float[] vector = cache.get(key);
+            if (vector != null) {
+                vectors.set(i, vector);
+            } else {
+                missing.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+        if (missing.isEmpty()) {
+            return vectors;
+        }
+
+        for (DocumentEmbedding stored : documentEmbeddingRepository.findAllById(missing.keySet())) {
+            float[] vector = decode(stored.getVector());
+            cache.put(stored.getId(), vector);
+            for (int i : missing.remove(stored.getId())) {
+                vectors.set(i, vector);
+            }
+        }
+        if (missing.isEmpty()) {
+            return vectors;
+        }
+
+        List<String> keys = new ArrayList<>(missing.keySet());
+        List<String> unembedded = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            unembedded.add(texts.get(missing.get(key).get(0)));
+        }
+        List<float[]> embedded;
+        try {
+            embedded = semanticSimilarityProvider.embedAll(unembedded);
+        } catch (Exception e) {
+            System.err.println("Embedding " + unembedded.size() + " texts (" + semanticSimilarityProvider.getName()
+                    + ") failed: " + e.getMessage());
+            return vectors;
+        }
+        for (int k = 0; k < keys.size(); k++) {
+            float[] vector = embedded.get(k);
+            try {
+                documentEmbeddingRepository.save(new DocumentEmbedding(
+                        keys.get(k), semanticSimilarityProvider.getName(), vector.length, encode(vector)));
+            } catch (DataIntegrityViolationException e) {
+                // Another request embedded the same text concurrently; its row is equivalent
+            }
+            cache.put(keys.get(k), vector);
+            for (int i : missing.get(keys.get(k))) {
+                vectors.set(i, vector);
+            }
+        }
+        return vectors;
+    }
+
+    private String keyOf(String text) {
+        return Hashing.sha256Hex(semanticSimilarityProvider.getName() + "\n" + text);
+    }
+
+    private static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    private static float[] decode(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+}
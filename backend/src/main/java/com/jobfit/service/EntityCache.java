@@ -0,0 +1,126 @@
+package com.jobfit.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobfit.util.BoundedLruCache;
+import com.jobfit.util.Hashing;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+// NER results keyed by a SHA-256 of the model name and the input text. An in-memory LRU
+// bounded by entries and approximate bytes sits in front of an optional directory of
+// JSON files, so identical texts are sent to the model at most once per store.
+@Component
+public class EntityCache {
+    private static final TypeReference<Map<String, List<String>>> ENTITIES = new TypeReference<>() {
+    };
+
+    @Value("${huggingface.ner-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${huggingface.ner-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    // Empty disables on-disk persistence
+    @Value("${huggingface.ner-cache.dir:}")
+    private String dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BoundedLruCache<String, Map<String, List<String>>> cache;
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        cache = new BoundedLruCache<>(maxEntries, maxBytes, EntityCache::weigh);
+        if (!dir.isBlank()) {
+            root = Paths.get(dir).toAbsolutePath().normalize();
+            Files.createDirectories(root);
+        }
+    }
+
+    public static String key(String model, String text) {
+        return Hashing.sha256Hex(model + "\n" + text);
+    }
+
+    public Optional<Map<String, List<String>>> get(String key) {
+        Map<String, List<String>> entities = cache.get(key);
+        if (entities != null) {
+            return Optional.of(entities);
+        }
+        if (root == null) {
+            return Optional.empty();
+        }
+        Path file = pathFor(key);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            entities = freeze(objectMapper.readValue(file.toFile(), ENTITIES));
+            cache.put(key, entities);
+            return Optional.of(entities);
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable NER cache file " + file + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // Returns the immutable copy that was cached
+    public Map<String, List<String>> put(String key, Map<String, List<String>> entities) {
+        Map<String, List<String>> frozen = freeze(entities);
+        cache.put(key, frozen);
+        if (root != null) {
+            Path file = pathFor(key);
+            try {
+                Files.createDirectories(file.getParent());
+                Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+                objectMapper.writeValue(temp.toFile(), frozen);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                System.err.println("Failed to persist NER cache entry " + key + ": " + e.getMessage());
+            }
+        }
+        return frozen;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", cache.size());
+        stats.put("bytes", cache.weight());
+        stats.put("hits", cache.hits());
+        stats.put("misses", cache.misses());
+        stats.put("evictions", cache.evictions());
+        stats.put("persistent", root != null);
+        return stats;
+    }
+
+    private Path pathFor(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key + ".json");
+    }
+
+    private static Map<String, List<String>> freeze(Map<String, List<String>> entities) {
+        Map<String, List<String>> frozen = new HashMap<>();
+        entities.forEach((group, words) -> {
+            if (group != null && words != null) {
+                frozen.put(group, words.stream().filter(Objects::nonNull).toList());
+            }
+        });
+        return Collections.unmodifiableMap(frozen);
+    }
+
+    // Rough heap footprint: two bytes per char plus per-string overhead
+    private static long weigh(Map<String, List<String>> entities) {
+        long bytes = 64;
+        for (Map.Entry<String, List<String>> entry : entities.entrySet()) {
+            bytes += 48 + 2L * entry.getKey().length();
+            for (String word : entry.getValue()) {
+                bytes += 48 + 2L * word.length();
+            }
+        }
+        return bytes;
+    }
+}
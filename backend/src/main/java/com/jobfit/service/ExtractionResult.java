@@ -0,0 +1,7 @@
+package com.jobfit.service;
+
+import java.util.List;
+
+// Everything TextExtractionService.extractAll pulls out of one document
+public record ExtractionResult(List<String> skills, List<String> experience, List<String> education) {
+}
@@ -2,24 +2,23 @@ package com.jobfit.service;
 
 
 
+import com.jobfit.util.CircuitBreaker;
+import com.jobfit.util.CircuitBreakerOpenException;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 @Service
 public class HuggingFaceService {
     
-    @Value("${huggingface.api.url}")
-    private String apiUrl;
-    
-    @Value("${huggingface.api.token}")
-    private String apiToken;
-    
     @Value("${huggingface.model.similarity}")
     private String similarityModel;
     
@@ -27,91 +26,243 @@ public class HuggingFaceService {
     private String nerModel;
     
     @Autowired
-    private RestTemplate restTemplate;
+    private InferenceClient inferenceClient;
+
+    @Autowired
+    private EntityCache entityCache;
+
+    @Value("${huggingface.circuit-breaker.window-size:50}")
+    private int breakerWindowSize;
+
+    @Value("${huggingface.circuit-breaker.minimum-calls:10}")
+    private int breakerMinimumCalls;
+
+    @Value("${huggingface.circuit-breaker.failure-rate-threshold:50}")
+    private float breakerFailureRateThreshold;
+
+    @Value("${huggingface.circuit-breaker.slow-call-rate-threshold:80}")
+    private float breakerSlowCallRateThreshold;
+
+    @Value("${huggingface.circuit-breaker.slow-call-duration-ms:5000}")
+    private long breakerSlowCallDurationMs;
+
+    @Value("${huggingface.circuit-breaker.open-duration-ms:30000}")
+    private long breakerOpenDurationMs;
+
+    @Value("${huggingface.circuit-breaker.half-open-calls:3}")
+    private int breakerHalfOpenCalls;
 
-    // private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    public void init() {
+        circuitBreaker = new CircuitBreaker("huggingface", breakerWindowSize, breakerMinimumCalls,
+                breakerFailureRateThreshold, breakerSlowCallRateThreshold, breakerSlowCallDurationMs,
+                breakerOpenDurationMs, breakerHalfOpenCalls);
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    // False while the breaker is open, so callers can skip queueing work that would fail fast anyway
+    public boolean isAvailable() {
+        return circuitBreaker.isCallPermitted();
+    }
     
-    public float calculateSemanticSimilarity(String text1, String text2) {
-        try {
-            // Truncate very long texts to avoid API limits
-            if (text1.length() > 1000) text1 = text1.substring(0, 1000);
-            if (text2.length() > 1000) text2 = text2.substring(0, 1000);
+    public SimilarityScore calculateSemanticSimilarity(String text1, String text2) {
+        return calculateSemanticSimilarities(text1, List.of(text2)).get(0);
+    }
 
-            String url = apiUrl + "/" + similarityModel;
+    public List<SimilarityScore> calculateSemanticSimilarities(String source, List<String> sentences) {
+        return calculateSemanticSimilaritiesAsync(source, sentences).join();
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "Bearer " + apiToken);
+    // Scores several sentences against one source sentence in a single API call.
+    // Never completes exceptionally: failures fall back to Jaccard similarity, flagged as such.
+    public CompletableFuture<List<SimilarityScore>> calculateSemanticSimilaritiesAsync(String source, List<String> sentences) {
+        // Truncate very long texts to avoid API limits
+        String sourceText = truncate(source);
+        List<String> sentenceTexts = new ArrayList<>(sentences.size());
+        for (String sentence : sentences) {
+            sentenceTexts.add(truncate(sentence));
+        }
 
+        String requestBody;
+        try {
             // Use LinkedHashMap to preserve field order
             Map<String, Object> inputs = new LinkedHashMap<>();
-            inputs.put("source_sentence", text1);
-            inputs.put("sentences", List.of(text2));
+            inputs.put("source_sentence", sourceText);
+            inputs.put("sentences", sentenceTexts);
 
             Map<String, Object> request = new HashMap<>();
             request.put("inputs", inputs);
 
-            String requestBody = objectMapper.writeValueAsString(request);
-            HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                url, HttpMethod.POST, entity, String.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                float[] scores = objectMapper.readValue(response.getBody(), float[].class);
-                return scores.length > 0 ? scores[0] : 0.0f;
-            }
-        } catch (Exception e) {
-            System.err.println("Hugging Face similarity API failed: " + e.getMessage());
-            // Fallback to Jaccard similarity
-            return calculateJaccardSimilarity(text1, text2);
+            requestBody = objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.completedFuture(jaccardFallback(sourceText, sentenceTexts));
         }
-        return 0.0f;
+
+        return post(similarityModel, requestBody)
+                .thenApply(body -> {
+                    try {
+                        float[] scores = objectMapper.readValue(body, float[].class);
+                        if (scores.length == sentenceTexts.size()) {
+                            List<SimilarityScore> results = new ArrayList<>(scores.length);
+                            for (float score : scores) {
+                                results.add(new SimilarityScore(score, false));
+                            }
+                            return results;
+                        }
+                        throw new InferenceException("Expected " + sentenceTexts.size() + " scores but got " + scores.length, 200);
+                    } catch (JsonProcessingException e) {
+                        throw new CompletionException(e);
+                    }
+                })
+                .exceptionally(e -> {
+                    logFailure("similarity", e);
+                    // Fallback to Jaccard similarity
+                    return jaccardFallback(sourceText, sentenceTexts);
+                });
+    }
+
+    // Sentence embeddings for texts from the similarity model, one request for the whole list.
+    // Unlike similarity there is no fallback: failures complete exceptionally.
+    public CompletableFuture<List<float[]>> embedAsync(List<String> texts) {
+        List<String> inputs = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            inputs.add(truncate(text));
+        }
+
+        String requestBody;
+        try {
+            requestBody = objectMapper.writeValueAsString(Map.of("inputs", inputs));
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return post(() -> inferenceClient.postFeatureExtraction(similarityModel, requestBody))
+                .thenApply(body -> {
+                    try {
+                        float[][] vectors = objectMapper.readValue(body, float[][].class);
+                        if (vectors.length != inputs.size()) {
+                            throw new InferenceException("Expected " + inputs.size() + " embeddings but got " + vectors.length, 200);
+                        }
+                        return Arrays.asList(vectors);
+                    } catch (JsonProcessingException e) {
+                        throw new CompletionException(e);
+                    }
+                })
+                .whenComplete((vectors, e) -> {
+                    if (e != null) {
+                        logFailure("feature extraction", e);
+                    }
+                });
+    }
+
+    public String getSimilarityModel() {
+        return similarityModel;
+    }
+
+    private List<SimilarityScore> jaccardFallback(String source, List<String> sentences) {
+        List<SimilarityScore> fallback = new ArrayList<>(sentences.size());
+        for (String sentence : sentences) {
+            fallback.add(new SimilarityScore(calculateJaccardSimilarity(source, sentence), true));
+        }
+        return fallback;
+    }
+
+    private static String truncate(String text) {
+        return text.length() > 1000 ? text.substring(0, 1000) : text;
     }
 
-    
     public Map<String, List<String>> extractEntities(String text) {
-        Map<String, List<String>> entities = new HashMap<>();
+        return extractEntitiesAsync(text).join();
+    }
+
+    // Never completes exceptionally: failures yield an empty map so callers use the skill taxonomy
+    public CompletableFuture<Map<String, List<String>>> extractEntitiesAsync(String text) {
+        // Identical texts (re-uploads, reposted or unchanged descriptions) skip the network
+        String cacheKey = EntityCache.key(nerModel, text);
+        Optional<Map<String, List<String>>> cached = entityCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        String requestBody;
         try {
-            String url = apiUrl + "/" + nerModel;
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "Bearer " + apiToken);
-            
             Map<String, String> request = new HashMap<>();
             request.put("inputs", text);
-            
-            String requestBody = objectMapper.writeValueAsString(request);
-            HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                url, HttpMethod.POST, entity, String.class);
-            
-            if (response.getStatusCode() == HttpStatus.OK) {
-                // Parse the NER response
-                List<Map<String, Object>> nerResults = objectMapper.readValue(
-                    response.getBody(),
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
-                );
-                
-                for (Map<String, Object> entityMap : nerResults) {
-                    String word = (String) entityMap.get("word");
-                    String entityGroup = (String) entityMap.get("entity_group");
-                    
-                    entities.computeIfAbsent(entityGroup, k -> new ArrayList<>()).add(word);
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+            requestBody = objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+
+        return post(nerModel, requestBody)
+                .thenApply(body -> {
+                    Map<String, List<String>> entities = new HashMap<>();
+                    try {
+                        // Parse the NER response
+                        List<Map<String, Object>> nerResults = objectMapper.readValue(
+                            body,
+                            objectMapper.getTypeFactory().constructCollectionType(List.class, Map.class)
+                        );
+
+                        for (Map<String, Object> entityMap : nerResults) {
+                            String word = (String) entityMap.get("word");
+                            String entityGroup = (String) entityMap.get("entity_group");
+
+                            entities.computeIfAbsent(entityGroup, k -> new ArrayList<>()).add(word);
+                        }
+                    } catch (JsonProcessingException e) {
+                        throw new CompletionException(e);
+                    }
+                    // Only successful responses are cached; fallbacks are retried next time
+                    return entityCache.put(cacheKey, entities);
+                })
+                .exceptionally(e -> {
+                    logFailure("NER", e);
+                    return new HashMap<>();
+                });
+    }
+
+    private CompletableFuture<String> post(String model, String requestBody) {
+        return post(() -> inferenceClient.post(model, requestBody));
+    }
+
+    // Routes a call through the circuit breaker; rejected calls fail immediately without touching the network.
+    // A call the client turned away locally says nothing about the API, so it is not recorded.
+    private CompletableFuture<String> post(Supplier<CompletableFuture<String>> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new CircuitBreakerOpenException("huggingface"));
+        }
+        long start = System.nanoTime();
+        return call.get()
+                .whenComplete((body, e) -> {
+                    long duration = System.nanoTime() - start;
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (e == null) {
+                        circuitBreaker.onSuccess(duration);
+                    } else if (cause instanceof InferenceRejectedException) {
+                        circuitBreaker.releasePermission();
+                    } else {
+                        circuitBreaker.onError(duration);
+                    }
+                });
+    }
+
+    private static void logFailure(String api, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        // Open-breaker rejections are expected while the API is down; don't log one per call
+        if (!(cause instanceof CircuitBreakerOpenException)) {
+            System.err.println("Hugging Face " + api + " API failed: " + cause.getMessage());
         }
-        return entities;
     }
 
 
-    private float calculateJaccardSimilarity(String text1, String text2) {
+    // Public and static so the benchmarks module can measure the fallback path directly
+    public static float calculateJaccardSimilarity(String text1, String text2) {
     // Simple word-based similarity as fallback
     Set<String> words1 = new HashSet<>(Arrays.asList(text1.toLowerCase().split("\\s+")));
     Set<String> words2 = new HashSet<>(Arrays.asList(text2.toLowerCase().split("\\s+")));
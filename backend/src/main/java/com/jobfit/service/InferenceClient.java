@@ -0,0 +1,108 @@
+package com.jobfit.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+// Shared non-blocking client for the Hugging Face inference API. One HttpClient keeps
+// connections alive (multiplexed over HTTP/2 where the server supports it), every call
+// carries a deadline, and in-flight requests are capped so a slow endpoint fails fast
+// instead of queueing without bound.
+@Component
+public class InferenceClient {
+    @Value("${huggingface.api.url}")
+    private String apiUrl;
+
+    @Value("${huggingface.api.feature-extraction-url}")
+    private String featureExtractionUrl;
+
+    @Value("${huggingface.api.token}")
+    private String apiToken;
+
+    @Value("${huggingface.client.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${huggingface.client.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    @Value("${huggingface.client.max-concurrent-requests:64}")
+    private int maxConcurrentRequests;
+
+    private HttpClient httpClient;
+    private ExecutorService executor;
+    private Semaphore inFlight;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .build();
+        inFlight = new Semaphore(maxConcurrentRequests);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<String> post(String model, String jsonBody) {
+        return post(model, jsonBody, Duration.ofMillis(requestTimeoutMs));
+    }
+
+    // Completes with the response body on 200, or exceptionally with an InferenceException
+    public CompletableFuture<String> post(String model, String jsonBody, Duration deadline) {
+        return send(apiUrl + "/" + model, model, jsonBody, deadline);
+    }
+
+    // Runs the model as a feature-extraction pipeline (one embedding per input) regardless of its default task
+    public CompletableFuture<String> postFeatureExtraction(String model, String jsonBody) {
+        return send(featureExtractionUrl + "/" + model, model, jsonBody, Duration.ofMillis(requestTimeoutMs));
+    }
+
+    private CompletableFuture<String> send(String url, String model, String jsonBody, Duration deadline) {
+        if (!inFlight.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new InferenceRejectedException("Too many in-flight inference requests"));
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(deadline)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer " + apiToken)
+                .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
+                .build();
+
+        CompletableFuture<HttpResponse<String>> response;
+        try {
+            response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        } catch (RuntimeException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return response
+                .whenComplete((r, e) -> inFlight.release())
+                .thenApply(r -> {
+                    if (r.statusCode() != 200) {
+                        throw new InferenceException("Inference API returned " + r.statusCode() + " for " + model,
+                                r.statusCode());
+                    }
+                    return r.body();
+                });
+    }
+}
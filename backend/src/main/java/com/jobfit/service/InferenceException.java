@@ -0,0 +1,15 @@
+package com.jobfit.service;
+
+// Failed call to the inference API; statusCode is -1 when no HTTP response was received
+public class InferenceException extends RuntimeException {
+    private final int statusCode;
+
+    public InferenceException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobfit.service;
+
+// The call was turned away locally (too many in flight) and never reached the inference API
+public class InferenceRejectedException extends InferenceException {
+    public InferenceRejectedException(String message) {
+        super(message, -1);
+    }
+}
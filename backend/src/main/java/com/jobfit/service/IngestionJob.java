@@ -0,0 +1,124 @@
+package com.jobfit.service;
+
+import com.jobfit.dto.IngestionJobDto;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Progress of one asynchronous resume upload. Held in memory only: jobs are lost on restart,
+// but the resume row they produce is not.
+public class IngestionJob {
+    public enum Status {
+        QUEUED, PARSING, EXTRACTING, PERSISTING, COMPLETED, FAILED;
+
+        public boolean isTerminal() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+
+    private final String id;
+    private final String username;
+    private final String fileName;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Long resumeId;
+    private volatile String error;
+    private volatile LocalDateTime updatedAt = createdAt;
+
+    public IngestionJob(String id, String username, String fileName) {
+        this.id = id;
+        this.username = username;
+        this.fileName = fileName;
+    }
+
+    public void advance(Status next) {
+        update(next, null, null);
+    }
+
+    public void complete(Long resumeId) {
+        update(Status.COMPLETED, resumeId, null);
+    }
+
+    public void fail(String error) {
+        update(Status.FAILED, null, error);
+    }
+
+    // Sends the current state straight away, then every change until the job finishes
+    public void subscribe(SseEmitter emitter) {
+        synchronized (this) {
+            if (!send(emitter, toDto())) {
+                return;
+            }
+            if (status.isTerminal()) {
+                emitter.complete();
+                return;
+            }
+            emitters.add(emitter);
+        }
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+    }
+
+    public IngestionJobDto toDto() {
+        return new IngestionJobDto(id, status.name(), fileName, resumeId, error, createdAt, updatedAt);
+    }
+
+    private synchronized void update(Status next, Long resumeId, String error) {
+        this.status = next;
+        if (resumeId != null) {
+            this.resumeId = resumeId;
+        }
+        if (error != null) {
+            this.error = error;
+        }
+        this.updatedAt = LocalDateTime.now();
+
+        IngestionJobDto dto = toDto();
+        for (SseEmitter emitter : emitters) {
+            if (send(emitter, dto) && next.isTerminal()) {
+                emitter.complete();
+            }
+        }
+        if (next.isTerminal()) {
+            emitters.clear();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, IngestionJobDto dto) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(dto));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; drop the subscription
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -1,10 +1,16 @@
 package com.jobfit.service;
 
+import com.jobfit.dto.JobDescriptionSummaryDto;
+import com.jobfit.dto.PageDto;
 import com.jobfit.entity.JobDescription;
 import com.jobfit.entity.User;
 import com.jobfit.repository.JobDescriptionRepository;
 import com.jobfit.repository.UserRepository;
+import com.jobfit.scoring.MatchFingerprint;
+import com.jobfit.scoring.SkillDictionary;
+import com.jobfit.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -23,6 +29,15 @@ public class JobDescriptionService {
     @Autowired
     private TextExtractionService textExtractionService;
 
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private VectorIndexService vectorIndexService;
+
+    @Autowired
+    private MatchResultCache matchResultCache;
+
     public JobDescription createJobDescription(JobDescription jobDescription) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String username = authentication.getName();
@@ -35,21 +50,38 @@ public class JobDescriptionService {
         if (jobDescription.getDescription() != null) {
             String extractedText = jobDescription.getDescription();
             jobDescription.setExtractedText(extractedText);
-            jobDescription.setRequiredSkills(textExtractionService.extractSkills(extractedText));
-            jobDescription.setExperienceRequirements(textExtractionService.extractExperience(extractedText));
-            jobDescription.setEducationRequirements(textExtractionService.extractEducation(extractedText));
+            ExtractionResult extraction = textExtractionService.extractAll(extractedText);
+            jobDescription.setRequiredSkills(extraction.skills());
+            jobDescription.setExperienceRequirements(extraction.experience());
+            jobDescription.setEducationRequirements(extraction.education());
+            skillDictionary.encodeRequiredSkills(jobDescription);
         }
 
-        return jobDescriptionRepository.save(jobDescription);
+        jobDescription.setContentHash(MatchFingerprint.computeContentHash(jobDescription));
+        JobDescription saved = jobDescriptionRepository.save(jobDescription);
+        // Embeds on save, so the first match does not pay for it
+        vectorIndexService.indexJobDescription(saved.getId(), saved.getDescription());
+        return saved;
     }
 
-    public List<JobDescription> getUserJobDescriptions() {
+    // One page of the user's job descriptions, newest first; same cursor contract as ResumeService
+    public PageDto<JobDescriptionSummaryDto> getUserJobDescriptions(String cursor, int limit) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String username = authentication.getName();
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        return jobDescriptionRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+        int size = Math.max(1, Math.min(limit, PageDto.MAX_LIMIT));
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<JobDescriptionSummaryDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = jobDescriptionRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), page);
+        } else {
+            String[] keys = KeysetCursor.decode(cursor, 2);
+            rows = jobDescriptionRepository.findByUserIdOrderByCreatedAtDescAfter(
+                    user.getId(), KeysetCursor.timestamp(keys[0]), Long.parseLong(keys[1]), page);
+        }
+        return PageDto.of(rows, size, last -> KeysetCursor.encode(last.getCreatedAt(), last.getId()));
     }
 
     public Optional<JobDescription> getJobDescriptionById(Long id) {
@@ -77,12 +109,19 @@ public class JobDescriptionService {
         if (jobDescriptionDetails.getDescription() != null) {
             String extractedText = jobDescriptionDetails.getDescription();
             jobDescription.setExtractedText(extractedText);
-            jobDescription.setRequiredSkills(textExtractionService.extractSkills(extractedText));
-            jobDescription.setExperienceRequirements(textExtractionService.extractExperience(extractedText));
-            jobDescription.setEducationRequirements(textExtractionService.extractEducation(extractedText));
+            ExtractionResult extraction = textExtractionService.extractAll(extractedText);
+            jobDescription.setRequiredSkills(extraction.skills());
+            jobDescription.setExperienceRequirements(extraction.experience());
+            jobDescription.setEducationRequirements(extraction.education());
+            skillDictionary.encodeRequiredSkills(jobDescription);
         }
 
-        return jobDescriptionRepository.save(jobDescription);
+        jobDescription.setContentHash(MatchFingerprint.computeContentHash(jobDescription));
+        JobDescription saved = jobDescriptionRepository.save(jobDescription);
+        // Embeds on save, so the first match does not pay for it
+        vectorIndexService.indexJobDescription(saved.getId(), saved.getDescription());
+        matchResultCache.invalidateJobDescription(id);
+        return saved;
     }
 
     public void deleteJobDescription(Long id) {
@@ -99,5 +138,7 @@ public class JobDescriptionService {
         }
 
         jobDescriptionRepository.delete(jobDescription);
+        vectorIndexService.removeJobDescription(id);
+        matchResultCache.invalidateJobDescription(id);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
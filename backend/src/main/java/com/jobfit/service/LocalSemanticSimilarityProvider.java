@@ -0,0 +1,37 @@
+package com.jobfit.service;
+
+import com.jobfit.scoring.HashingEmbedder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+// In-process similarity using hashed bag-of-words embeddings; no network access
+@Service
+@ConditionalOnProperty(name = "semantic.provider", havingValue = "local")
+public class LocalSemanticSimilarityProvider implements SemanticSimilarityProvider {
+    private final HashingEmbedder embedder;
+
+    public LocalSemanticSimilarityProvider(@Value("${semantic.local.dimension:1024}") int dimension) {
+        this.embedder = new HashingEmbedder(dimension);
+    }
+
+    @Override
+    public String getName() {
+        return "local-hashing-" + embedder.getDimension();
+    }
+
+    @Override
+    public SimilarityScore calculateSimilarity(String text1, String text2) {
+        return new SimilarityScore(HashingEmbedder.cosine(embedder.embed(text1), embedder.embed(text2)), false);
+    }
+
+    @Override
+    public boolean supportsEmbeddings() {
+        return true;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        return embedder.embed(text);
+    }
+}
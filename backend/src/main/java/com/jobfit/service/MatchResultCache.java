@@ -0,0 +1,177 @@
+package com.jobfit.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobfit.dto.MatchResultDto;
+import com.jobfit.util.BoundedLruCache;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Match results per (resume, job description) pair, held as serialized JSON so entries are
+// compact, immutable and exactly sized. Writers invalidate by pair, resume or job description.
+// Every write bumps a generation per pair (striped), which read-through callers read before
+// loading the row: a load that overlapped a write is then not cached over the newer state.
+@Component
+public class MatchResultCache {
+    private record Key(long resumeId, long jobDescriptionId) {
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${matching.result-cache.max-entries:20000}")
+    private int maxEntries;
+
+    @Value("${matching.result-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private BoundedLruCache<Key, byte[]> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        cache = new BoundedLruCache<>(maxEntries, maxBytes, json -> json.length);
+    }
+
+    public MatchResultDto get(Long resumeId, Long jobDescriptionId) {
+        byte[] json = cache.get(new Key(resumeId, jobDescriptionId));
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, MatchResultDto.class);
+        } catch (IOException e) {
+            cache.remove(new Key(resumeId, jobDescriptionId));
+            return null;
+        }
+    }
+
+    // Writer path: replaces the entry with the result just saved
+    public void put(MatchResultDto matchResult) {
+        byte[] json = serialize(matchResult);
+        Key key = new Key(matchResult.getResumeId(), matchResult.getJobDescriptionId());
+        synchronized (this) {
+            generations.incrementAndGet(stripe(key));
+            if (json != null) {
+                cache.put(key, json);
+            } else {
+                cache.remove(key);
+            }
+        }
+    }
+
+    // Read before loading the pair from the database and pass it to putIfUnchanged
+    public long generation(Long resumeId, Long jobDescriptionId) {
+        return generations.get(stripe(new Key(resumeId, jobDescriptionId)));
+    }
+
+    // Reader path: skipped if the pair was written or invalidated since generation was read,
+    // as the loaded row may predate that write
+    public void putIfUnchanged(MatchResultDto matchResult, long generation) {
+        byte[] json = serialize(matchResult);
+        if (json == null) {
+            return;
+        }
+        Key key = new Key(matchResult.getResumeId(), matchResult.getJobDescriptionId());
+        synchronized (this) {
+            if (generations.get(stripe(key)) == generation) {
+                cache.put(key, json);
+            }
+        }
+    }
+
+    // Invalidations inside a transaction run before commit, while readers can still load the old
+    // row, so they are repeated once the transaction has committed
+    public void invalidate(Long resumeId, Long jobDescriptionId) {
+        Key key = new Key(resumeId, jobDescriptionId);
+        afterCommitToo(() -> {
+            synchronized (this) {
+                generations.incrementAndGet(stripe(key));
+                if (cache.remove(key) != null) {
+                    invalidations.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    public void invalidateResume(Long resumeId) {
+        afterCommitToo(() -> {
+            synchronized (this) {
+                bumpAllGenerations();
+                invalidations.addAndGet(cache.removeIf(key -> key.resumeId() == resumeId));
+            }
+        });
+    }
+
+    public void invalidateJobDescription(Long jobDescriptionId) {
+        afterCommitToo(() -> {
+            synchronized (this) {
+                bumpAllGenerations();
+                invalidations.addAndGet(cache.removeIf(key -> key.jobDescriptionId() == jobDescriptionId));
+            }
+        });
+    }
+
+    public synchronized void clear() {
+        bumpAllGenerations();
+        cache.clear();
+    }
+
+    public Map<String, Object> stats() {
+        long hits = cache.hits();
+        long misses = cache.misses();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", cache.size());
+        stats.put("bytes", cache.weight());
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("evictions", cache.evictions());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    private byte[] serialize(MatchResultDto matchResult) {
+        try {
+            return objectMapper.writeValueAsBytes(matchResult);
+        } catch (JsonProcessingException e) {
+            System.err.println("Failed to cache match result " + matchResult.getId() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void bumpAllGenerations() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+    }
+
+    private static void afterCommitToo(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    private static int stripe(Key key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+}
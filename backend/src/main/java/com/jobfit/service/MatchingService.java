@@ -1,27 +1,94 @@
 package com.jobfit.service;
 
+import com.jobfit.dto.MatchResultDto;
+import com.jobfit.dto.MatchSummaryDto;
+import com.jobfit.dto.PageDto;
 import com.jobfit.entity.*;
+import com.jobfit.index.SkillIndex;
 import com.jobfit.repository.MatchResultRepository;
+import com.jobfit.repository.ResumeRepository;
+import com.jobfit.repository.UserRepository;
+import com.jobfit.scoring.HashingEmbedder;
+import com.jobfit.scoring.MatchFingerprint;
+import com.jobfit.scoring.ScoreWeights;
+import com.jobfit.scoring.SkillDictionary;
+import com.jobfit.scoring.SkillSet;
+import com.jobfit.scoring.TermVector;
+import com.jobfit.util.KeysetCursor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.http.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 @Service
 public class MatchingService {
+    private static final Comparator<MatchResult> BY_OVERALL_SCORE =
+            Comparator.comparingDouble(MatchResult::getOverallScore);
+    private static final int CANDIDATE_FETCH_CHUNK = 1000;
+    private static final int DETAILS_BACKFILL_CHUNK = 500;
+
     @Autowired
     private MatchResultRepository matchResultRepository;
 
     @Autowired
-    private HuggingFaceService huggingFaceService;
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
 
-    @Value("${huggingface.api.enabled:true}")
-    private boolean huggingFaceEnabled;
+    @Autowired
+    private SemanticSimilarityProvider semanticSimilarityProvider;
+
+    @Autowired
+    private EmbeddingService embeddingService;
+
+    @Autowired
+    private SkillIndex skillIndex;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private MatchResultCache matchResultCache;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${semantic.enabled:${huggingface.api.enabled:true}}")
+    private boolean semanticEnabled;
+
+    @Value("${matching.ranking.parallelism:0}")
+    private int rankingParallelism;
+
+    @Value("${matching.ranking.max-k:500}")
+    private int rankingMaxK;
+
+    @Value("${matching.ranking.max-candidates:5000}")
+    private int rankingMaxCandidates;
+
+    @Value("${semantic.embedding-batch-size:32}")
+    private int semanticBatchSize;
 
      @Autowired
     private RestTemplate restTemplate;
@@ -29,63 +96,300 @@ public class MatchingService {
     // private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    // Dedicated pool so a long ranking never starves the common fork-join pool
+    private ForkJoinPool rankingPool;
+
+    @PostConstruct
+    public void init() {
+        int parallelism = rankingParallelism > 0 ? rankingParallelism : Runtime.getRuntime().availableProcessors();
+        rankingPool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rankingPool.shutdown();
+    }
+
     public MatchResult matchResumeToJob(Resume resume, JobDescription jobDescription) {
 
         Optional<MatchResult> existing = matchResultRepository.findByResumeIdAndJobDescriptionId(
         resume.getId(), jobDescription.getId()
     );
+        // Nothing the scores depend on has changed since they were stored
+        String fingerprint = fingerprintOf(resume, jobDescription);
+        if (existing.isPresent() && fingerprint.equals(existing.get().getInputFingerprint())) {
+            return existing.get();
+        }
+
+        MatchResult scored = scoreMatch(resume, jobDescription, fingerprint, null);
+
+        // Create and save match result
+        // MatchResult matchResult = new MatchResult();
+        MatchResult matchResult = existing.orElse(new MatchResult());
+        copyScores(scored, matchResult);
+
+        MatchResult saved = matchResultRepository.save(matchResult);
+        // Refresh rather than just invalidate, since the caller usually reads it back next
+        matchResultCache.put(MatchResultDto.fromEntity(saved));
+        return saved;
+    }
+
+    // Scores every candidate resume against one job description, keeps only the best k in a bounded
+    // heap and persists those k results in one batch. Semantic scores are fetched in batches up front,
+    // so the parallel stage never waits on the network.
+    @Transactional
+    public List<MatchResult> rankResumesForJob(JobDescription jobDescription, int k) {
+        int limit = Math.max(1, Math.min(k, rankingMaxK));
+
+        // Lazy collections must be initialized on the session thread before fanning out
+        Hibernate.initialize(jobDescription.getRequiredSkills());
+        Hibernate.initialize(jobDescription.getExperienceRequirements());
+        Hibernate.initialize(jobDescription.getEducationRequirements());
+        requiredSkillIds(jobDescription);
+
+        List<Resume> resumes = findCandidateResumes(jobDescription);
+        for (Resume resume : resumes) {
+            Hibernate.initialize(resume.getSkills());
+            Hibernate.initialize(resume.getExperience());
+            Hibernate.initialize(resume.getEducation());
+        }
+
+        // Stored results whose inputs are unchanged are ranked as they are, without rescoring
+        Map<Long, MatchResult> existingByResume = findExistingResults(jobDescription, resumes);
+        String providerName = semanticSimilarityProvider.getName();
+        String jobHash = MatchFingerprint.contentHash(jobDescription);
+
+        List<MatchResult> topResults;
+        try {
+            Map<Long, String> fingerprints = rankingPool.submit(() -> resumes.parallelStream()
+                    .collect(Collectors.toMap(Resume::getId,
+                            resume -> fingerprintOf(resume, jobHash, providerName)))).get();
+            List<Resume> stale = new ArrayList<>();
+            for (Resume resume : resumes) {
+                MatchResult existing = existingByResume.get(resume.getId());
+                if (existing == null || !fingerprints.get(resume.getId()).equals(existing.getInputFingerprint())) {
+                    stale.add(resume);
+                }
+            }
+            Map<Long, SimilarityScore> semanticScores = semanticScoresFor(jobDescription, stale);
+
+            topResults = rankingPool.submit(() -> resumes.parallelStream()
+                    .map(resume -> {
+                        String fingerprint = fingerprints.get(resume.getId());
+                        MatchResult existing = existingByResume.get(resume.getId());
+                        if (existing != null && fingerprint.equals(existing.getInputFingerprint())) {
+                            return existing;
+                        }
+                        return scoreMatch(resume, jobDescription, fingerprint, semanticScores);
+                    })
+                    .collect(topK(limit))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Ranking interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Ranking failed: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        // Merge into existing rows so a re-ranking updates instead of duplicating;
+        // reused rows are returned untouched
+        List<MatchResult> ranked = new ArrayList<>(topResults.size());
+        List<MatchResult> toSave = new ArrayList<>();
+        for (MatchResult scored : topResults) {
+            MatchResult existing = existingByResume.get(scored.getResume().getId());
+            if (scored == existing) {
+                ranked.add(existing);
+                continue;
+            }
+            MatchResult matchResult = existing != null ? existing : new MatchResult();
+            copyScores(scored, matchResult);
+            ranked.add(matchResult);
+            toSave.add(matchResult);
+        }
+
+        matchResultRepository.saveAll(toSave);
+        for (MatchResult saved : toSave) {
+            matchResultCache.invalidate(saved.getResume().getId(), jobDescription.getId());
+        }
+        return ranked;
+    }
+
+    private Map<Long, MatchResult> findExistingResults(JobDescription jobDescription, List<Resume> resumes) {
+        Map<Long, MatchResult> existingByResume = new HashMap<>();
+        for (int from = 0; from < resumes.size(); from += CANDIDATE_FETCH_CHUNK) {
+            List<Long> chunk = resumes.subList(from, Math.min(from + CANDIDATE_FETCH_CHUNK, resumes.size()))
+                    .stream().map(Resume::getId).collect(Collectors.toList());
+            for (MatchResult existing : matchResultRepository.findByJobDescriptionIdAndResumeIdIn(jobDescription.getId(), chunk)) {
+                existingByResume.put(existing.getResume().getId(), existing);
+            }
+        }
+        return existingByResume;
+    }
+
+    private String fingerprintOf(Resume resume, JobDescription jobDescription) {
+        return fingerprintOf(resume, MatchFingerprint.contentHash(jobDescription), semanticSimilarityProvider.getName());
+    }
+
+    private String fingerprintOf(Resume resume, String jobHash, String providerName) {
+        return MatchFingerprint.of(resume, jobHash, providerName, semanticEnabled);
+    }
+
+    // Only resumes sharing at least one required skill are worth scoring; without required
+    // skills every resume scores 1.0 on skills, so fall back to all of them. Either way at most
+    // rankingMaxCandidates of the newest resumes are scored.
+    private List<Resume> findCandidateResumes(JobDescription jobDescription) {
+        int[] requiredSkillSet = jobDescription.getRequiredSkillSet();
+        if (requiredSkillSet.length == 0) {
+            return resumeRepository.findAll(
+                    PageRequest.of(0, rankingMaxCandidates, Sort.by(Sort.Direction.DESC, "id"))).getContent();
+        }
+
+        // Ids come back ascending, so the newest are at the end
+        long[] candidateIds = skillIndex.findResumesWithAnySkill(requiredSkillSet);
+        int first = Math.max(0, candidateIds.length - rankingMaxCandidates);
+        List<Resume> candidates = new ArrayList<>(candidateIds.length - first);
+        for (int from = first; from < candidateIds.length; from += CANDIDATE_FETCH_CHUNK) {
+            int to = Math.min(from + CANDIDATE_FETCH_CHUNK, candidateIds.length);
+            List<Long> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunk.add(candidateIds[i]);
+            }
+            candidates.addAll(resumeRepository.findAllById(chunk));
+        }
+        return candidates;
+    }
+
+    // Semantic scores of the job description against each resume, keyed by resume id. Computed in
+    // batches of semanticBatchSize: from cached embeddings when the provider has them, otherwise
+    // (e.g. the remote provider with semantic.remote.embeddings=false) one similarity call per
+    // batch. Resumes whose batch failed are left out.
+    private Map<Long, SimilarityScore> semanticScoresFor(JobDescription jobDescription, List<Resume> resumes) {
+        Map<Long, SimilarityScore> scores = new HashMap<>();
+        String description = jobDescription.getDescription();
+        if (!semanticEnabled || description == null) {
+            return scores;
+        }
+
+        List<Resume> withText = resumes.stream()
+                .filter(resume -> resume.getExtractedText() != null)
+                .collect(Collectors.toList());
+        float[] jobVector = null;
+        if (embeddingService.isEnabled()) {
+            try {
+                jobVector = embeddingService.embeddingFor(description);
+            } catch (Exception e) {
+                System.err.println("Semantic similarity (" + semanticSimilarityProvider.getName() + ") failed: " + e.getMessage());
+                return scores;
+            }
+        }
+
+        for (int from = 0; from < withText.size(); from += semanticBatchSize) {
+            List<Resume> batch = withText.subList(from, Math.min(from + semanticBatchSize, withText.size()));
+            List<String> texts = batch.stream().map(Resume::getExtractedText).collect(Collectors.toList());
+            try {
+                if (jobVector != null) {
+                    List<float[]> vectors = embeddingService.embeddingsFor(texts);
+                    for (int i = 0; i < batch.size(); i++) {
+                        if (vectors.get(i) != null) {
+                            scores.put(batch.get(i).getId(),
+                                    new SimilarityScore(HashingEmbedder.cosine(jobVector, vectors.get(i)), false));
+                        }
+                    }
+                } else {
+                    List<SimilarityScore> batchScores = semanticSimilarityProvider.calculateSimilarities(description, texts);
+                    for (int i = 0; i < batch.size(); i++) {
+                        scores.put(batch.get(i).getId(), batchScores.get(i));
+                    }
+                }
+            } catch (Exception e) {
+                System.err.println("Semantic similarity (" + semanticSimilarityProvider.getName() + ") failed: " + e.getMessage());
+            }
+        }
+        return scores;
+    }
+
+    private SimilarityScore semanticScore(Resume resume, JobDescription jobDescription) {
+        if (embeddingService.isEnabled()) {
+            // Cosine between cached per-document vectors
+            return new SimilarityScore(embeddingService.similarity(
+                resume.getExtractedText(),
+                jobDescription.getDescription()
+            ), false);
+        }
+        // Job description first: concurrent calls share it and can be batched
+        return semanticSimilarityProvider.calculateSimilarity(
+            jobDescription.getDescription(),
+            resume.getExtractedText()
+        );
+    }
+
+    // Scores one pair exactly as matching and ranking do, without touching the database. Public so
+    // the benchmarks module measures the production scoring rather than a copy of it.
+    public MatchResult scoreMatch(Resume resume, JobDescription jobDescription) {
+        return scoreMatch(resume, jobDescription, null, null);
+    }
+
+    // Computes all scores for a pair without touching the database. Semantic scores are taken from
+    // semanticScores when given (a missing entry counts as failed), otherwise computed here. The
+    // result carries fingerprint only when no score came from a fallback, so fallback scores are
+    // saved but recomputed next time.
+    private MatchResult scoreMatch(Resume resume, JobDescription jobDescription, String fingerprint,
+                                   Map<Long, SimilarityScore> semanticScores) {
+        int[] resumeSkillIds = resumeSkillIds(resume);
+        int[] requiredSkillIds = requiredSkillIds(jobDescription);
+
         // Calculate similarity scores
-        double skillsScore = calculateSkillsSimilarity(resume.getSkills(), jobDescription.getRequiredSkills());
-        double experienceScore = calculateExperienceSimilarity(resume.getExperience(), jobDescription.getExperienceRequirements());
-        double educationScore = calculateEducationSimilarity(resume.getEducation(), jobDescription.getEducationRequirements());
-        
-        // Calculate semantic similarity if Hugging Face is enabled
+        double skillsScore = calculateSkillsSimilarity(resumeSkillIds, jobDescription.getRequiredSkillSet());
+        double experienceScore = calculateTermSimilarity(
+                termsOf(resume.getExperienceTerms(), resume.getExperience()),
+                termsOf(jobDescription.getExperienceTerms(), jobDescription.getExperienceRequirements()));
+        double educationScore = calculateTermSimilarity(
+                termsOf(resume.getEducationTerms(), resume.getEducation()),
+                termsOf(jobDescription.getEducationTerms(), jobDescription.getEducationRequirements()));
+        
+        // Calculate semantic similarity if semantic scoring is enabled
         double semanticSimilarity = 0.0;
-        if (huggingFaceEnabled && resume.getExtractedText() != null && jobDescription.getDescription() != null) {
+        boolean fallback = false;
+        if (semanticEnabled && resume.getExtractedText() != null && jobDescription.getDescription() != null) {
+            SimilarityScore score;
             try {
-                semanticSimilarity = huggingFaceService.calculateSemanticSimilarity(
-                    resume.getExtractedText(), 
-                    jobDescription.getDescription()
-                );
+                score = semanticScores != null
+                        ? semanticScores.get(resume.getId())
+                        : semanticScore(resume, jobDescription);
             } catch (Exception e) {
-                System.err.println("Hugging Face API call failed: " + e.getMessage());
+                System.err.println("Semantic similarity (" + semanticSimilarityProvider.getName() + ") failed: " + e.getMessage());
+                score = null;
+            }
+            if (score != null) {
+                semanticSimilarity = score.value();
+                fallback = score.fallback();
+            } else {
                 // Fallback to traditional scoring
                 semanticSimilarity = (skillsScore + experienceScore + educationScore) / 3;
+                fallback = true;
             }
         } else {
-            // Use traditional scoring if Hugging Face is disabled
+            // Use traditional scoring if semantic scoring is disabled
             semanticSimilarity = (skillsScore + experienceScore + educationScore) / 3;
         }
         
         // Calculate overall score (weighted average)
         // Adjust weights based on the importance of each factor
         double overallScore;
-        if (huggingFaceEnabled) {
+        if (semanticEnabled) {
             // Give more weight to semantic similarity when using AI
-            overallScore = (semanticSimilarity * 0.4) + 
-                          (skillsScore * 0.3) + 
-                          (experienceScore * 0.2) + 
-                          (educationScore * 0.1);
+            overallScore = ScoreWeights.combine(semanticSimilarity, skillsScore, experienceScore, educationScore);
         } else {
             // Traditional weights without AI
-            overallScore = (skillsScore * 0.5) + (experienceScore * 0.3) + (educationScore * 0.2);
+            overallScore = ScoreWeights.combineWithoutSemantic(skillsScore, experienceScore, educationScore);
         }
         
         // Find missing skills
-        List<String> missingSkills = findMissingSkills(resume.getSkills(), jobDescription.getRequiredSkills());
-        
-        // Generate improvement suggestions
-        List<String> suggestions = generateImprovementSuggestions(missingSkills, skillsScore, overallScore);
-        
-        // Generate learning resources
-        List<String> learningResources = generateLearningResources(missingSkills);
+        List<String> missingSkills = findMissingSkills(resumeSkillIds, jobDescription.getRequiredSkills(), requiredSkillIds);
         
         // Create skill scores map
-        Map<String, Double> skillScores = calculateIndividualSkillScores(resume.getSkills(), jobDescription.getRequiredSkills());
+        Map<String, Double> skillScores = calculateIndividualSkillScores(resumeSkillIds, jobDescription.getRequiredSkills(), requiredSkillIds);
         
-        // Create and save match result
-        // MatchResult matchResult = new MatchResult();
-        MatchResult matchResult = existing.orElse(new MatchResult());
+        MatchResult matchResult = new MatchResult();
         matchResult.setResume(resume);
         matchResult.setJobDescription(jobDescription);
         matchResult.setOverallScore(overallScore);
@@ -95,185 +399,228 @@ public class MatchingService {
         matchResult.setSemanticSimilarity(semanticSimilarity);
         matchResult.setMissingSkills(missingSkills);
         matchResult.setSkillScores(skillScores);
-        matchResult.setImprovementSuggestions(suggestions);
-        matchResult.setLearningResources(learningResources);
-        
-        return matchResultRepository.save(matchResult);
+        matchResult.setInputFingerprint(fallback ? null : fingerprint);
+        return matchResult;
     }
 
-    private double calculateSkillsSimilarity(List<String> resumeSkills, List<String> requiredSkills) {
-        if (requiredSkills == null || requiredSkills.isEmpty()) {
-            return 1.0;
+    // Skill ids are derived once per resume: at upload, from the skill index, or on first use
+    private int[] resumeSkillIds(Resume resume) {
+        int[] skillIds = resume.getSkillIds();
+        if (skillIds == null) {
+            skillIds = resume.getId() != null ? skillIndex.skillIdsOf(resume.getId()) : null;
+            if (skillIds == null) {
+                skillIds = skillDictionary.encode(resume.getSkills());
+            }
+            resume.setSkillIds(skillIds);
         }
-        
-        if (resumeSkills == null || resumeSkills.isEmpty()) {
-            return 0.0;
+        return skillIds;
+    }
+
+    private int[] requiredSkillIds(JobDescription jobDescription) {
+        if (jobDescription.getRequiredSkillIds() == null) {
+            skillDictionary.encodeRequiredSkills(jobDescription);
         }
-        
-        // Convert to lowercase for comparison
-        Set<String> resumeSkillsLower = resumeSkills.stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toSet());
-        
-        Set<String> requiredSkillsLower = requiredSkills.stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toSet());
-        
-        // Calculate Jaccard similarity
-        Set<String> intersection = new HashSet<>(resumeSkillsLower);
-        intersection.retainAll(requiredSkillsLower);
-        
-        Set<String> union = new HashSet<>(resumeSkillsLower);
-        union.addAll(requiredSkillsLower);
-        
-        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+        return jobDescription.getRequiredSkillIds();
+    }
+
+    private void copyScores(MatchResult source, MatchResult target) {
+        target.setResume(source.getResume());
+        target.setJobDescription(source.getJobDescription());
+        target.setOverallScore(source.getOverallScore());
+        target.setSkillsScore(source.getSkillsScore());
+        target.setExperienceScore(source.getExperienceScore());
+        target.setEducationScore(source.getEducationScore());
+        target.setSemanticSimilarity(source.getSemanticSimilarity());
+        target.setMissingSkills(source.getMissingSkills());
+        target.setSkillScores(source.getSkillScores());
+        target.setInputFingerprint(source.getInputFingerprint());
+    }
+
+    // Min-heap of size k per fork; partial heaps are merged and the survivors returned best-first
+    private static Collector<MatchResult, PriorityQueue<MatchResult>, List<MatchResult>> topK(int k) {
+        return Collector.of(
+                () -> new PriorityQueue<>(k + 1, BY_OVERALL_SCORE),
+                (heap, result) -> offerBounded(heap, result, k),
+                (left, right) -> {
+                    for (MatchResult result : right) {
+                        offerBounded(left, result, k);
+                    }
+                    return left;
+                },
+                heap -> {
+                    List<MatchResult> sorted = new ArrayList<>(heap);
+                    sorted.sort(BY_OVERALL_SCORE.reversed());
+                    return sorted;
+                });
     }
 
-    private double calculateExperienceSimilarity(List<String> resumeExperience, List<String> requiredExperience) {
-        if (requiredExperience == null || requiredExperience.isEmpty()) {
+    private static void offerBounded(PriorityQueue<MatchResult> heap, MatchResult result, int k) {
+        if (heap.size() < k) {
+            heap.offer(result);
+        } else if (result.getOverallScore() > heap.peek().getOverallScore()) {
+            heap.poll();
+            heap.offer(result);
+        }
+    }
+
+    private double calculateSkillsSimilarity(int[] resumeSkills, int[] requiredSkills) {
+        if (requiredSkills.length == 0) {
             return 1.0;
         }
         
-        if (resumeExperience == null || resumeExperience.isEmpty()) {
+        if (resumeSkills.length == 0) {
             return 0.0;
         }
         
-        // Simple text similarity based on common keywords
-        String resumeText = String.join(" ", resumeExperience).toLowerCase();
-        String requiredText = String.join(" ", requiredExperience).toLowerCase();
-        
-        String[] requiredWords = requiredText.split("\\s+");
-        int matchingWords = 0;
-        
-        for (String word : requiredWords) {
-            if (word.length() > 3 && resumeText.contains(word)) {
-                matchingWords++;
-            }
-        }
-        
-        return requiredWords.length > 0 ? (double) matchingWords / requiredWords.length : 0.0;
+        // Jaccard similarity over sorted skill id sets
+        return SkillSet.jaccard(resumeSkills, requiredSkills);
     }
 
-    private double calculateEducationSimilarity(List<String> resumeEducation, List<String> requiredEducation) {
-        if (requiredEducation == null || requiredEducation.isEmpty()) {
+    // Shared by experience and education: share of required tokens that also occur on the resume
+    private double calculateTermSimilarity(TermVector resumeTerms, TermVector requiredTerms) {
+        if (requiredTerms.isEmpty()) {
             return 1.0;
         }
         
-        if (resumeEducation == null || resumeEducation.isEmpty()) {
+        if (resumeTerms.isEmpty()) {
             return 0.0;
         }
         
-        // Similar to experience similarity
-        String resumeText = String.join(" ", resumeEducation).toLowerCase();
-        String requiredText = String.join(" ", requiredEducation).toLowerCase();
-        
-        String[] requiredWords = requiredText.split("\\s+");
-        int matchingWords = 0;
-        
-        for (String word : requiredWords) {
-            if (word.length() > 3 && resumeText.contains(word)) {
-                matchingWords++;
-            }
-        }
-        
-        return requiredWords.length > 0 ? (double) matchingWords / requiredWords.length : 0.0;
+        return requiredTerms.coverageBy(resumeTerms);
+    }
+
+    // Rows saved before term vectors existed have no stored vector; derive it on the fly
+    private static TermVector termsOf(TermVector stored, List<String> phrases) {
+        return stored != null ? stored : TermVector.of(phrases);
     }
 
-    private List<String> findMissingSkills(List<String> resumeSkills, List<String> requiredSkills) {
+    private List<String> findMissingSkills(int[] resumeSkills, List<String> requiredSkills, int[] requiredSkillIds) {
         if (requiredSkills == null || requiredSkills.isEmpty()) {
             return new ArrayList<>();
         }
         
-        if (resumeSkills == null || resumeSkills.isEmpty()) {
+        if (resumeSkills.length == 0) {
             return new ArrayList<>(requiredSkills);
         }
         
-        Set<String> resumeSkillsLower = resumeSkills.stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toSet());
-        
-        return requiredSkills.stream()
-                .filter(skill -> !resumeSkillsLower.contains(skill.toLowerCase()))
-                .collect(Collectors.toList());
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < requiredSkillIds.length; i++) {
+            if (!SkillSet.contains(resumeSkills, requiredSkillIds[i])) {
+                missing.add(requiredSkills.get(i));
+            }
+        }
+        return missing;
     }
 
-    private List<String> generateImprovementSuggestions(List<String> missingSkills, double skillsScore, double overallScore) {
-        List<String> suggestions = new ArrayList<>();
-        
-        if (overallScore < 0.5) {
-            suggestions.add("Your resume needs significant improvements to match this job requirement");
-        }
-        
-        if (skillsScore < 0.5) {
-            suggestions.add("Consider adding more relevant technical skills to your resume");
-        }
-        
-        if (skillsScore < 0.7) {
-            suggestions.add("Highlight your most relevant skills at the top of your resume");
-        }
+    private Map<String, Double> calculateIndividualSkillScores(int[] resumeSkills, List<String> requiredSkills, int[] requiredSkillIds) {
+        Map<String, Double> skillScores = new HashMap<>();
         
-        for (String skill : missingSkills) {
-            suggestions.add("Consider adding " + skill + " to your skills section or gaining experience with it");
+        if (requiredSkills == null || requiredSkills.isEmpty()) {
+            return skillScores;
         }
         
-        if (suggestions.isEmpty()) {
-            suggestions.add("Your resume looks well-aligned with the job requirements!");
+        for (int i = 0; i < requiredSkillIds.length; i++) {
+            skillScores.put(requiredSkills.get(i), SkillSet.contains(resumeSkills, requiredSkillIds[i]) ? 1.0 : 0.0);
         }
         
-        return suggestions;
+        return skillScores;
     }
 
-    private List<String> generateLearningResources(List<String> missingSkills) {
-        List<String> resources = new ArrayList<>();
-        
-        for (String skill : missingSkills) {
-            resources.add("LinkedIn Learning: " + skill + " courses");
-            resources.add("Coursera: " + skill + " specialization");
-            resources.add("Udemy: " + skill + " tutorials");
-            resources.add("YouTube: " + skill + " tutorial videos");
-        }
-        
-        if (resources.isEmpty()) {
-            resources.add("No specific learning resources needed. Your skills match well!");
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillResumeOwners() {
+        int updated = matchResultRepository.backfillResumeOwnerIds();
+        if (updated > 0) {
+            System.err.println("Backfilled resume owner on " + updated + " match results");
         }
-        
-        return resources;
     }
 
-    private Map<String, Double> calculateIndividualSkillScores(List<String> resumeSkills, List<String> requiredSkills) {
-        Map<String, Double> skillScores = new HashMap<>();
-        
-        if (requiredSkills == null || requiredSkills.isEmpty()) {
-            return skillScores;
-        }
-        
-        if (resumeSkills == null || resumeSkills.isEmpty()) {
-            for (String skill : requiredSkills) {
-                skillScores.put(skill, 0.0);
+    // Rows saved before the details column existed still have their missing skills and skill scores
+    // in the old element-collection tables; copy them into details once. Installs that never had
+    // those tables have nothing to copy.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMatchDetails() {
+        MatchDetailsConverter converter = new MatchDetailsConverter();
+        int updated = 0;
+        long lastId = 0;
+        try {
+            while (true) {
+                List<Long> ids = jdbcTemplate.getJdbcTemplate().queryForList(
+                        "SELECT id FROM match_results WHERE details IS NULL AND id > ? ORDER BY id LIMIT "
+                                + DETAILS_BACKFILL_CHUNK, Long.class, lastId);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lastId = ids.get(ids.size() - 1);
+
+                MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+                Map<Long, List<String>> missingSkills = new HashMap<>();
+                jdbcTemplate.query("SELECT match_result_id, skill FROM match_missing_skills WHERE match_result_id IN (:ids)",
+                        params, rs -> {
+                            missingSkills.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+                        });
+                Map<Long, Map<String, Double>> skillScores = new HashMap<>();
+                jdbcTemplate.query("SELECT match_result_id, skill, score FROM match_skill_scores WHERE match_result_id IN (:ids)",
+                        params, rs -> {
+                            skillScores.computeIfAbsent(rs.getLong(1), id -> new HashMap<>()).put(rs.getString(2), rs.getDouble(3));
+                        });
+
+                List<Object[]> rows = new ArrayList<>(ids.size());
+                for (Long id : ids) {
+                    MatchDetails details = new MatchDetails(
+                            missingSkills.getOrDefault(id, new ArrayList<>()),
+                            skillScores.getOrDefault(id, new HashMap<>()));
+                    rows.add(new Object[]{converter.convertToDatabaseColumn(details), id});
+                }
+                jdbcTemplate.getJdbcTemplate().batchUpdate(
+                        "UPDATE match_results SET details = ? WHERE id = ? AND details IS NULL", rows);
+                updated += ids.size();
             }
-            return skillScores;
+        } catch (BadSqlGrammarException e) {
+            // The old tables do not exist
+            return;
         }
-        
-        Set<String> resumeSkillsLower = resumeSkills.stream()
-                .map(String::toLowerCase)
-                .collect(Collectors.toSet());
-        
-        for (String skill : requiredSkills) {
-            if (resumeSkillsLower.contains(skill.toLowerCase())) {
-                skillScores.put(skill, 1.0);
-            } else {
-                skillScores.put(skill, 0.0);
-            }
+        if (updated > 0) {
+            matchResultCache.clear();
+            System.err.println("Backfilled details on " + updated + " match results");
         }
-        
-        return skillScores;
     }
 
-    public List<MatchResult> getMatchResultsForUser(Long userId) {
-        return matchResultRepository.findByResumeUserId(userId);
+    // One page of the current user's match history, highest overall score first. cursor is the
+    // nextCursor of the previous page (null for the first); a malformed cursor throws
+    // IllegalArgumentException.
+    public PageDto<MatchSummaryDto> getUserMatchResults(String cursor, int limit) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        int size = Math.max(1, Math.min(limit, PageDto.MAX_LIMIT));
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<MatchSummaryDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = matchResultRepository.findSummariesByResumeOwner(user.getId(), page);
+        } else {
+            String[] keys = KeysetCursor.decode(cursor, 2);
+            rows = matchResultRepository.findSummariesByResumeOwnerAfter(
+                    user.getId(), Double.parseDouble(keys[0]), Long.parseLong(keys[1]), page);
+        }
+        return PageDto.of(rows, size, last -> KeysetCursor.encode(last.getOverallScore(), last.getId()));
     }
 
     public Optional<MatchResult> getMatchResult(Long resumeId, Long jobDescriptionId) {
         return matchResultRepository.findByResumeIdAndJobDescriptionId(resumeId, jobDescriptionId);
     }
+
+    // Read-through: served from MatchResultCache, loading the row and its collections on a miss
+    @Transactional(readOnly = true)
+    public Optional<MatchResultDto> getMatchResultDto(Long resumeId, Long jobDescriptionId) {
+        MatchResultDto cached = matchResultCache.get(resumeId, jobDescriptionId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = matchResultCache.generation(resumeId, jobDescriptionId);
+        Optional<MatchResultDto> loaded = getMatchResult(resumeId, jobDescriptionId).map(MatchResultDto::fromEntity);
+        loaded.ifPresent(dto -> matchResultCache.putIfUnchanged(dto, generation));
+        return loaded;
+    }
 }
\ No newline at end of file
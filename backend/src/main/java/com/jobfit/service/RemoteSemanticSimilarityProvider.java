@@ -0,0 +1,64 @@
+package com.jobfit.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+@Service
+@ConditionalOnProperty(name = "semantic.provider", havingValue = "remote", matchIfMissing = true)
+public class RemoteSemanticSimilarityProvider implements SemanticSimilarityProvider {
+    @Autowired
+    private SimilarityBatcher similarityBatcher;
+
+    @Autowired
+    private HuggingFaceService huggingFaceService;
+
+    @Value("${semantic.remote.embeddings:true}")
+    private boolean embeddingsEnabled;
+
+    // Includes the model, so cached embeddings and fingerprints are not reused across models
+    @Override
+    public String getName() {
+        return "remote:" + huggingFaceService.getSimilarityModel();
+    }
+
+    // text1 is sent as the source sentence, so calls sharing it are batched together
+    @Override
+    public SimilarityScore calculateSimilarity(String text1, String text2) {
+        return similarityBatcher.calculateSimilarity(text1, text2);
+    }
+
+    // Already one request, so it skips the batching window
+    @Override
+    public List<SimilarityScore> calculateSimilarities(String source, List<String> texts) {
+        return huggingFaceService.calculateSemanticSimilarities(source, texts);
+    }
+
+    // The sentence-similarity pipeline is the cosine of these same embeddings, so per-document
+    // vectors give the same scores while each text is sent to the API only once. Turned off for
+    // endpoints that only serve the sentence-similarity pipeline; scoring then goes through the
+    // batched similarity calls above and the nearest-neighbour endpoints are unavailable
+    @Override
+    public boolean supportsEmbeddings() {
+        return embeddingsEnabled;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        return embedAll(List.of(text)).get(0);
+    }
+
+    @Override
+    public List<float[]> embedAll(List<String> texts) {
+        try {
+            return huggingFaceService.embedAsync(texts).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof RuntimeException runtime ? runtime : new RuntimeException(cause);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobfit.service;
+
+import com.jobfit.dto.IngestionJobDto;
+import com.jobfit.dto.ResumeDto;
+import com.jobfit.entity.User;
+import com.jobfit.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+// Accepts uploads on the request thread (spool to disk only) and runs the rest of
+// ingestion on a bounded pool of virtual-thread workers, tracking each upload as an IngestionJob
+@Service
+public class ResumeIngestionService {
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private TextExtractionService textExtractionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${ingestion.workers:8}")
+    private int workers;
+
+    @Value("${ingestion.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${ingestion.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Value("${ingestion.sse-timeout-ms:120000}")
+    private long sseTimeoutMs;
+
+    private final ConcurrentHashMap<String, IngestionJob> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("resume-ingest-", 0).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Throws RejectedExecutionException when the queue is full
+    public IngestionJobDto submit(MultipartFile file) throws IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        purgeExpired();
+        Path spooled = textExtractionService.spool(file);
+        IngestionJob job = new IngestionJob(UUID.randomUUID().toString(), username, file.getOriginalFilename());
+        Long userId = user.getId();
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, spooled, userId));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
+        return job.toDto();
+    }
+
+    public Optional<IngestionJobDto> getJob(String id) {
+        return findOwnJob(id).map(IngestionJob::toDto);
+    }
+
+    public Optional<SseEmitter> subscribe(String id) {
+        return findOwnJob(id).map(job -> {
+            SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+            job.subscribe(emitter);
+            return emitter;
+        });
+    }
+
+    private void run(IngestionJob job, Path spooled, Long userId) {
+        try {
+            ResumeDto resume = resumeService.ingestResume(spooled, job.getFileName(), userId, job);
+            job.complete(resume.getId());
+        } catch (Exception e) {
+            System.err.println("Resume ingestion " + job.getId() + " failed: " + e.getMessage());
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            try {
+                Files.deleteIfExists(spooled);
+            } catch (IOException e) {
+                System.err.println("Failed to delete spooled upload " + spooled + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // Jobs are visible to the user who submitted them only
+    private Optional<IngestionJob> findOwnJob(String id) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        IngestionJob job = jobs.get(id);
+        if (job == null || authentication == null || !job.getUsername().equals(authentication.getName())) {
+            return Optional.empty();
+        }
+        return Optional.of(job);
+    }
+
+    private void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.getStatus().isTerminal() && job.getUpdatedAt().isBefore(cutoff));
+    }
+}
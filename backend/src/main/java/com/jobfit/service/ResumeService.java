@@ -1,19 +1,25 @@
 package com.jobfit.service;
 
+import com.jobfit.dto.PageDto;
 import com.jobfit.dto.ResumeDto;
+import com.jobfit.dto.ResumeSummaryDto;
 import com.jobfit.entity.Resume;
 import com.jobfit.entity.User;
+import com.jobfit.index.SkillIndex;
+import com.jobfit.scoring.SkillDictionary;
+import com.jobfit.storage.BlobStore;
 import com.jobfit.repository.ResumeRepository;
 import com.jobfit.repository.UserRepository;
-import org.apache.tika.Tika;
+import com.jobfit.util.KeysetCursor;
 import org.apache.tika.exception.TikaException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,31 +34,58 @@ public class ResumeService {
     @Autowired
     private TextExtractionService textExtractionService;
 
-    public ResumeDto uploadResume(MultipartFile file) throws IOException, TikaException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    @Autowired
+    private SkillIndex skillIndex;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private VectorIndexService vectorIndexService;
+
+    @Autowired
+    private BlobStore blobStore;
 
-        String extractedText = textExtractionService.extractText(file);
-        List<String> skills = textExtractionService.extractSkills(extractedText);
-        List<String> experience = textExtractionService.extractExperience(extractedText);
-        List<String> education = textExtractionService.extractEducation(extractedText);
+    @Autowired
+    private MatchResultCache matchResultCache;
+
+    // Runs the parse -> extract -> persist pipeline for an upload already spooled to disk.
+    // Called from the ingestion workers, so the user is passed in rather than read from the security context.
+    public ResumeDto ingestResume(Path spooled, String fileName, Long userId, IngestionJob job)
+            throws IOException, TikaException {
+        job.advance(IngestionJob.Status.PARSING);
+        String extractedText = textExtractionService.extractText(spooled);
+        String contentType = textExtractionService.detectContentType(spooled, fileName);
+
+        job.advance(IngestionJob.Status.EXTRACTING);
+        ExtractionResult extraction = textExtractionService.extractAll(extractedText);
 
+        job.advance(IngestionJob.Status.PERSISTING);
         Resume resume = new Resume();
-        resume.setUser(user);
-        resume.setFileName(file.getOriginalFilename());
-        resume.setContent(new String(file.getBytes()));
+        resume.setUser(userRepository.getReferenceById(userId));
+        resume.setFileName(fileName);
+        resume.setContentType(contentType);
         resume.setExtractedText(extractedText);
-        resume.setSkills(skills);
-        resume.setExperience(experience);
-        resume.setEducation(education);
-
-        Resume savedResume = resumeRepository.save(resume);
+        resume.setSkills(extraction.skills());
+        resume.setSkillIds(skillDictionary.encode(extraction.skills()));
+        resume.setExperience(extraction.experience());
+        resume.setEducation(extraction.education());
+
+        // Stored only once nothing but the save can fail; the store removes the blob again if it does
+        Resume savedResume = blobStore.put(spooled, blob -> {
+            resume.setContentHash(blob.hash());
+            resume.setContentSize(blob.size());
+            return resumeRepository.save(resume);
+        });
+        skillIndex.index(savedResume.getId(), savedResume.getSkillIds());
+        // Embeds on ingest, so the first match does not pay for it
+        vectorIndexService.indexResume(savedResume.getId(), extractedText);
         return ResumeDto.fromEntity(savedResume);
     }
 
-   public List<Resume> getUserResumes() {
+   // One page of the user's resumes, newest first. cursor is the nextCursor of the previous
+   // page (null for the first); a malformed cursor throws IllegalArgumentException.
+   public PageDto<ResumeSummaryDto> getUserResumes(String cursor, int limit) {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     if (authentication == null || !authentication.isAuthenticated()) {
         throw new RuntimeException("User not authenticated");
@@ -62,7 +95,17 @@ public class ResumeService {
     User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new RuntimeException("User not found"));
 
-    return resumeRepository.findByUserIdOrderByUploadedAtDesc(user.getId());
+    int size = Math.max(1, Math.min(limit, PageDto.MAX_LIMIT));
+    PageRequest page = PageRequest.of(0, size + 1);
+    List<ResumeSummaryDto> rows;
+    if (cursor == null || cursor.isBlank()) {
+        rows = resumeRepository.findByUserIdOrderByUploadedAtDesc(user.getId(), page);
+    } else {
+        String[] keys = KeysetCursor.decode(cursor, 2);
+        rows = resumeRepository.findByUserIdOrderByUploadedAtDescAfter(
+                user.getId(), KeysetCursor.timestamp(keys[0]), Long.parseLong(keys[1]), page);
+    }
+    return PageDto.of(rows, size, last -> KeysetCursor.encode(last.getUploadedAt(), last.getId()));
 }
 
     public Optional<Resume> getResumeById(Long id) {
@@ -83,5 +126,25 @@ public class ResumeService {
         }
 
         resumeRepository.delete(resume);
+        skillIndex.remove(id);
+        vectorIndexService.removeResume(id);
+        matchResultCache.invalidateResume(id);
+        releaseContent(resume.getContentHash());
+    }
+
+    public Optional<Path> getResumeFile(Resume resume) {
+        return resume.getContentHash() == null ? Optional.empty() : blobStore.locate(resume.getContentHash());
+    }
+
+    // Blobs are shared by identical uploads, so the file goes only with its last reference
+    private void releaseContent(String contentHash) {
+        if (contentHash == null) {
+            return;
+        }
+        try {
+            blobStore.deleteIfUnreferenced(contentHash, () -> resumeRepository.countByContentHash(contentHash) > 0);
+        } catch (IOException e) {
+            System.err.println("Failed to delete blob " + contentHash + ": " + e.getMessage());
+        }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
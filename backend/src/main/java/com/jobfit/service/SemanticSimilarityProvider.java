@@ -0,0 +1,40 @@
+package com.jobfit.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Source of the semantic similarity score used by MatchingService.
+// The implementation is chosen with the semantic.provider property (remote or local).
+public interface SemanticSimilarityProvider {
+    String getName();
+
+    // Similarity of two texts in [0, 1], flagged when it came from a fallback
+    SimilarityScore calculateSimilarity(String text1, String text2);
+
+    // Similarity of source to each text, in order
+    default List<SimilarityScore> calculateSimilarities(String source, List<String> texts) {
+        List<SimilarityScore> scores = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            scores.add(calculateSimilarity(source, text));
+        }
+        return scores;
+    }
+
+    // Providers that can embed a single text let EmbeddingService cache vectors per document
+    default boolean supportsEmbeddings() {
+        return false;
+    }
+
+    default float[] embed(String text) {
+        throw new UnsupportedOperationException(getName() + " does not produce embeddings");
+    }
+
+    // Embeddings for several texts, in order; providers backed by a remote model send them as one request
+    default List<float[]> embedAll(List<String> texts) {
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            vectors.add(embed(text));
+        }
+        return vectors;
+    }
+}
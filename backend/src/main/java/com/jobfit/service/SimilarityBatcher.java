@@ -0,0 +1,123 @@
+package com.jobfit.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+// Coalesces concurrent similarity requests that share a source text into one
+// sentence-similarity call per window, then hands each caller its own score.
+// Used by the remote provider when semantic.remote.embeddings is off
+@Service
+public class SimilarityBatcher {
+    @Autowired
+    private HuggingFaceService huggingFaceService;
+
+    @Value("${huggingface.batch.window-ms:20}")
+    private long windowMs;
+
+    @Value("${huggingface.batch.max-size:32}")
+    private int maxBatchSize;
+
+    private final Map<String, Batch> pending = new HashMap<>();
+    private ScheduledExecutorService flushTimer;
+
+    @PostConstruct
+    public void init() {
+        flushTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "similarity-batch-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushTimer.shutdownNow();
+    }
+
+    public SimilarityScore calculateSimilarity(String source, String sentence) {
+        try {
+            return submit(source, sentence).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof RuntimeException runtime ? runtime : new RuntimeException(cause);
+        }
+    }
+
+    public CompletableFuture<SimilarityScore> submit(String source, String sentence) {
+        // No point holding a call for the window when the breaker will reject it anyway
+        if (windowMs <= 0 || maxBatchSize <= 1 || !huggingFaceService.isAvailable()) {
+            return huggingFaceService.calculateSemanticSimilaritiesAsync(source, List.of(sentence))
+                    .thenApply(scores -> scores.get(0));
+        }
+
+        Batch full = null;
+        CompletableFuture<SimilarityScore> future;
+        synchronized (pending) {
+            Batch batch = pending.get(source);
+            if (batch == null) {
+                Batch created = new Batch(source);
+                pending.put(source, created);
+                flushTimer.schedule(() -> flush(created), windowMs, TimeUnit.MILLISECONDS);
+                batch = created;
+            }
+            future = batch.add(sentence);
+            if (batch.size() >= maxBatchSize) {
+                pending.remove(source);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    private void flush(Batch batch) {
+        synchronized (pending) {
+            // A batch that filled up was already removed and dispatched
+            if (pending.get(batch.source) != batch) {
+                return;
+            }
+            pending.remove(batch.source);
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Batch batch) {
+        List<String> sentences = new ArrayList<>(batch.futures.keySet());
+        huggingFaceService.calculateSemanticSimilaritiesAsync(batch.source, sentences)
+                .whenComplete((scores, e) -> {
+                    if (e != null) {
+                        batch.futures.values().forEach(future -> future.completeExceptionally(e));
+                        return;
+                    }
+                    for (int i = 0; i < sentences.size(); i++) {
+                        batch.futures.get(sentences.get(i)).complete(scores.get(i));
+                    }
+                });
+    }
+
+    // Identical sentences within a window share one slot in the request
+    private static final class Batch {
+        final String source;
+        final Map<String, CompletableFuture<SimilarityScore>> futures = new LinkedHashMap<>();
+
+        Batch(String source) {
+            this.source = source;
+        }
+
+        CompletableFuture<SimilarityScore> add(String sentence) {
+            return futures.computeIfAbsent(sentence, s -> new CompletableFuture<>());
+        }
+
+        int size() {
+            return futures.size();
+        }
+    }
+}
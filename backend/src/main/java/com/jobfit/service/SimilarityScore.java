@@ -0,0 +1,7 @@
+package com.jobfit.service;
+
+// A semantic similarity in [0, 1]. fallback is set when the provider could not compute it and
+// substituted an approximation (e.g. Jaccard while the remote API is down); such scores are
+// usable but not worth remembering as final.
+public record SimilarityScore(float value, boolean fallback) {
+}
@@ -1,82 +1,281 @@
 package com.jobfit.service;
 
-import org.apache.tika.Tika;
+import com.jobfit.scoring.SkillTaxonomy;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.apache.tika.exception.TikaException;
+import org.apache.tika.exception.WriteLimitReachedException;
+import org.apache.tika.io.TikaInputStream;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.sax.BodyContentHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.SAXException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Service
 public class TextExtractionService {
-    private final Tika tika = new Tika();
+    private static final Pattern[] EXPERIENCE_PATTERNS = {
+        Pattern.compile("\\b(\\d+)\\s*(?:years?|yrs?)\\s*(?:of\\s+)?(?:experience|exp)\\b", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("\\b(?:worked|experience)\\s+(?:as|in)\\s+([^\\n]+?)\\b", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("\\b(?:senior|junior|lead|principal|staff)\\s+([^\\n]+?)\\b", Pattern.CASE_INSENSITIVE)
+    };
 
+    private static final Pattern[] EDUCATION_PATTERNS = {
+        Pattern.compile("\\b(Bachelor|Master|PhD|BSc|MSc|MBA|Associate|Diploma|Certificate)\\b", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("\\b(Computer Science|Engineering|Information Technology|Business|Management|Marketing|Finance)\\b", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("\\b(University|College|Institute|School)\\b", Pattern.CASE_INSENSITIVE)
+    };
+
+    @Value("${extraction.max-chars:500000}")
+    private int maxChars;
+
+    @Value("${extraction.timeout-ms:30000}")
+    private long timeoutMs;
+
+    @Value("${extraction.stage-deadline-ms:15000}")
+    private long stageDeadlineMs;
+
+    @Value("${extraction.spool-dir:${java.io.tmpdir}}")
+    private String spoolDir;
+
+    @Value("${extraction.parse-threads:4}")
+    private int parseThreads;
+
+    @Value("${extraction.parse-queue-capacity:100}")
+    private int parseQueueCapacity;
+
+    private final AutoDetectParser parser = new AutoDetectParser();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    // Tika does not stop on interrupt, so a timed-out parse keeps its thread until it finishes;
+    // a fixed pool with a bounded queue caps how many abandoned parses can pile up
+    private ThreadPoolExecutor parseExecutor;
+
+    @PostConstruct
+    public void init() {
+        parseExecutor = new ThreadPoolExecutor(parseThreads, parseThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parseQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "tika-parse");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        parseExecutor.shutdownNow();
+    }
+
+    // The spooled copy belongs to the parse, which deletes it when done, even after a timeout
     public String extractText(MultipartFile file) throws IOException, TikaException {
-        return tika.parseToString(file.getInputStream());
+        return extractText(spool(file), true);
+    }
+
+    // Copies the upload to a temp file in the spool directory; the caller deletes it
+    public Path spool(MultipartFile file) throws IOException {
+        Path dir = Paths.get(spoolDir);
+        Files.createDirectories(dir);
+        Path spooled = Files.createTempFile(dir, "upload-", ".tmp");
+        try (InputStream in = file.getInputStream()) {
+            Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
+        return spooled;
+    }
+
+    // Streams the file through Tika, keeping at most maxChars characters of text. Text past the
+    // cap is dropped rather than failing the upload; parsing longer than timeoutMs is abandoned.
+    // The caller keeps ownership of file.
+    public String extractText(Path file) throws IOException, TikaException {
+        return extractText(file, false);
+    }
+
+    private String extractText(Path file, boolean deleteAfter) throws IOException, TikaException {
+        // Whoever claims first deletes the file: the parse task when it runs, or the caller
+        // when the task was cancelled or rejected before it started
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<String> parse;
+        try {
+            parse = parseExecutor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    return parse(file);
+                } finally {
+                    if (deleteAfter) {
+                        deleteSpooled(file);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (deleteAfter) {
+                deleteSpooled(file);
+            }
+            throw new TikaException("Text extraction is at capacity, try again later");
+        }
+        try {
+            return parse.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(parse, claimed, file, deleteAfter);
+            throw new TikaException("Text extraction timed out after " + timeoutMs + " ms");
+        } catch (InterruptedException e) {
+            abandon(parse, claimed, file, deleteAfter);
+            Thread.currentThread().interrupt();
+            throw new TikaException("Text extraction interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof TikaException tika) {
+                throw tika;
+            }
+            throw new TikaException("Text extraction failed", cause);
+        }
+    }
+
+    private void abandon(Future<String> parse, AtomicBoolean claimed, Path file, boolean deleteAfter) {
+        parse.cancel(true);
+        if (deleteAfter && claimed.compareAndSet(false, true)) {
+            deleteSpooled(file);
+        }
+    }
+
+    private static void deleteSpooled(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Failed to delete spooled upload " + file + ": " + e.getMessage());
+        }
+    }
+
+    // Sniffs the media type from the file's leading bytes, using the file name as a hint
+    public String detectContentType(Path file, String fileName) throws IOException {
+        Metadata metadata = new Metadata();
+        if (fileName != null) {
+            metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, fileName);
+        }
+        try (TikaInputStream stream = TikaInputStream.get(file)) {
+            return parser.getDetector().detect(stream, metadata).toString();
+        }
+    }
+
+    private String parse(Path file) throws IOException, TikaException {
+        BodyContentHandler handler = new BodyContentHandler(maxChars);
+        try (TikaInputStream stream = TikaInputStream.get(file)) {
+            parser.parse(stream, handler, new Metadata(), new ParseContext());
+        } catch (SAXException e) {
+            if (!WriteLimitReachedException.isWriteLimitReached(e)) {
+                throw new TikaException("Unable to parse document", e);
+            }
+        } catch (TikaException e) {
+            // Some parsers wrap the handler's write-limit signal
+            if (!WriteLimitReachedException.isWriteLimitReached(e)) {
+                throw e;
+            }
+        }
+        return handler.toString();
     }
 
     
     @Autowired
     private HuggingFaceService huggingFaceService;
+
+    @Autowired
+    private SkillTaxonomy skillTaxonomy;
     
     public List<String> extractSkills(String text) {
         // Use Hugging Face NER to extract skills more accurately
-        Map<String, List<String>> entities = huggingFaceService.extractEntities(text);
-        
+        return skillsFrom(huggingFaceService.extractEntities(text), text);
+    }
+
+    // Runs the skills, experience and education stages concurrently under one deadline, so the
+    // total approaches the slowest stage. The NER call is non-blocking and the two regex stages
+    // run on virtual threads. If NER misses the deadline the skills fall back to the taxonomy
+    // matcher; if a local stage misses it, the remaining stages are cancelled and the call fails.
+    // StructuredTaskScope would express this directly but is a preview API on Java 21 (needs
+    // --enable-preview at build and run time), so the futures are cancelled in finally instead.
+    public ExtractionResult extractAll(String text) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(stageDeadlineMs);
+        CompletableFuture<Map<String, List<String>>> entities = huggingFaceService.extractEntitiesAsync(text);
+        Future<List<String>> experience = executor.submit(() -> extractExperience(text));
+        Future<List<String>> education = executor.submit(() -> extractEducation(text));
+        try {
+            List<String> experienceResult = await(experience, deadline);
+            List<String> educationResult = await(education, deadline);
+
+            Map<String, List<String>> entityResult;
+            try {
+                entityResult = await(entities, deadline);
+            } catch (TimeoutException e) {
+                entities.cancel(true);
+                entityResult = Map.of();
+            }
+            return new ExtractionResult(skillsFrom(entityResult, text), experienceResult, educationResult);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Text extraction exceeded " + stageDeadlineMs + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Text extraction interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Text extraction failed", e.getCause());
+        } finally {
+            // No stage outlives the call, whichever way it ends
+            experience.cancel(true);
+            education.cancel(true);
+            entities.cancel(true);
+        }
+    }
+
+    private static <T> T await(Future<T> future, long deadline)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private List<String> skillsFrom(Map<String, List<String>> entities, String text) {
         List<String> skills = new ArrayList<>();
         if (entities.containsKey("SKILL")) {
             skills.addAll(entities.get("SKILL"));
         }
-        
-        // Fall back to regex if Hugging Face doesn't return good results
+
+        // Fall back to the skill taxonomy if Hugging Face doesn't return good results
         if (skills.isEmpty()) {
-            skills = extractSkillsWithRegex(text);
+            skills = extractSkillsFromTaxonomy(text);
         }
-        
+
         return skills;
     }
     
-    public List<String> extractSkillsWithRegex(String text) {
-        List<String> skills = new ArrayList<>();
-        
-        // Common technical skills patterns
-        String[] skillPatterns = {
-            "\\b(Java|Python|JavaScript|React|Angular|Vue|Node\\.js|Spring|Hibernate|MySQL|PostgreSQL|MongoDB|AWS|Azure|Docker|Kubernetes|Git|Jenkins|Maven|Gradle)\\b",
-            "\\b(HTML|CSS|SQL|REST|API|JSON|XML|GraphQL|Microservices|Agile|Scrum|DevOps|CI/CD)\\b",
-            "\\b(Machine Learning|AI|Data Science|Statistics|R|TensorFlow|PyTorch|Scikit-learn|Pandas|NumPy|Matplotlib)\\b",
-            "\\b(Project Management|Leadership|Communication|Problem Solving|Analytical|Critical Thinking|Teamwork|Time Management)\\b"
-        };
-
-        for (String pattern : skillPatterns) {
-            Pattern p = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
-            Matcher m = p.matcher(text);
-            while (m.find()) {
-                String skill = m.group(1);
-                if (!skills.contains(skill.toLowerCase())) {
-                    skills.add(skill);
-                }
-            }
-        }
-
-        return skills;
+    // Single pass over the text with the taxonomy's Aho-Corasick automaton; returns canonical names
+    public List<String> extractSkillsFromTaxonomy(String text) {
+        return skillTaxonomy.findSkills(text);
     }
 
     public List<String> extractExperience(String text) {
         List<String> experience = new ArrayList<>();
         
         // Look for experience patterns
-        String[] experiencePatterns = {
-            "\\b(\\d+)\\s*(?:years?|yrs?)\\s*(?:of\\s+)?(?:experience|exp)\\b",
-            "\\b(?:worked|experience)\\s+(?:as|in)\\s+([^\\n]+?)\\b",
-            "\\b(?:senior|junior|lead|principal|staff)\\s+([^\\n]+?)\\b"
-        };
-
-        for (String pattern : experiencePatterns) {
-            Pattern p = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
+        for (Pattern p : EXPERIENCE_PATTERNS) {
             Matcher m = p.matcher(text);
             while (m.find()) {
                 String exp = m.group(0);
@@ -93,14 +292,7 @@ public class TextExtractionService {
         List<String> education = new ArrayList<>();
         
         // Look for education patterns
-        String[] educationPatterns = {
-            "\\b(Bachelor|Master|PhD|BSc|MSc|MBA|Associate|Diploma|Certificate)\\b",
-            "\\b(Computer Science|Engineering|Information Technology|Business|Management|Marketing|Finance)\\b",
-            "\\b(University|College|Institute|School)\\b"
-        };
-
-        for (String pattern : educationPatterns) {
-            Pattern p = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
+        for (Pattern p : EDUCATION_PATTERNS) {
             Matcher m = p.matcher(text);
             while (m.find()) {
                 String edu = m.group(0);
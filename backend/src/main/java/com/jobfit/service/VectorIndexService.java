@@ -0,0 +1,183 @@
+package com.jobfit.service;
+
+import com.jobfit.dto.SimilarDocumentDto;
+import com.jobfit.entity.JobDescription;
+import com.jobfit.entity.Resume;
+import com.jobfit.index.HnswIndex;
+import com.jobfit.repository.JobDescriptionRepository;
+import com.jobfit.repository.ResumeRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Approximate nearest-neighbour indexes over resume and job description embeddings.
+// Only active when the configured provider can embed single texts.
+@Service
+public class VectorIndexService {
+    @Autowired
+    private EmbeddingService embeddingService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private JobDescriptionRepository jobDescriptionRepository;
+
+    @Value("${semantic.ann.m:16}")
+    private int m;
+
+    @Value("${semantic.ann.ef-construction:200}")
+    private int efConstruction;
+
+    @Value("${semantic.ann.ef-search:64}")
+    private int efSearch;
+
+    @Value("${semantic.ann.max-results:100}")
+    private int maxResults;
+
+    @Value("${semantic.embedding-batch-size:32}")
+    private int embeddingBatchSize;
+
+    private HnswIndex resumeIndex;
+    private HnswIndex jobIndex;
+
+    @PostConstruct
+    public void init() {
+        resumeIndex = new HnswIndex(m, efConstruction, efSearch);
+        jobIndex = new HnswIndex(m, efConstruction, efSearch);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+        indexAll(resumeIndex, resumeRepository::findIdAndExtractedTextAfter);
+        indexAll(jobIndex, jobDescriptionRepository::findIdAndDescriptionAfter);
+    }
+
+    public boolean isEnabled() {
+        return embeddingService.isEnabled();
+    }
+
+    // Indexing failures are logged rather than thrown so they never fail an upload or save
+    public void indexResume(Long resumeId, String extractedText) {
+        index(resumeIndex, resumeId, extractedText);
+    }
+
+    public void removeResume(Long resumeId) {
+        resumeIndex.remove(resumeId);
+    }
+
+    public void indexJobDescription(Long jobDescriptionId, String description) {
+        index(jobIndex, jobDescriptionId, description);
+    }
+
+    public void removeJobDescription(Long jobDescriptionId) {
+        jobIndex.remove(jobDescriptionId);
+    }
+
+    public List<SimilarDocumentDto> findJobsForResume(Resume resume, int n) {
+        if (resume.getExtractedText() == null) {
+            return List.of();
+        }
+        List<HnswIndex.Neighbour> neighbours = jobIndex.search(
+                embeddingService.embeddingFor(resume.getExtractedText()), clamp(n));
+        Map<Long, JobDescription> jobs = jobDescriptionRepository.findAllById(documentIds(neighbours)).stream()
+                .collect(Collectors.toMap(JobDescription::getId, Function.identity()));
+
+        List<SimilarDocumentDto> result = new ArrayList<>(neighbours.size());
+        for (HnswIndex.Neighbour neighbour : neighbours) {
+            JobDescription job = jobs.get(neighbour.documentId());
+            if (job != null) {
+                result.add(new SimilarDocumentDto(job.getId(), job.getTitle() + " at " + job.getCompany(),
+                        (double) neighbour.similarity()));
+            }
+        }
+        return result;
+    }
+
+    public List<SimilarDocumentDto> findResumesForJob(JobDescription jobDescription, int n) {
+        if (jobDescription.getDescription() == null) {
+            return List.of();
+        }
+        List<HnswIndex.Neighbour> neighbours = resumeIndex.search(
+                embeddingService.embeddingFor(jobDescription.getDescription()), clamp(n));
+        Map<Long, Resume> resumes = resumeRepository.findAllById(documentIds(neighbours)).stream()
+                .collect(Collectors.toMap(Resume::getId, Function.identity()));
+
+        List<SimilarDocumentDto> result = new ArrayList<>(neighbours.size());
+        for (HnswIndex.Neighbour neighbour : neighbours) {
+            Resume resume = resumes.get(neighbour.documentId());
+            if (resume != null) {
+                result.add(new SimilarDocumentDto(resume.getId(), resume.getFileName(), (double) neighbour.similarity()));
+            }
+        }
+        return result;
+    }
+
+    private int clamp(int n) {
+        return Math.max(1, Math.min(n, maxResults));
+    }
+
+    private static List<Long> documentIds(List<HnswIndex.Neighbour> neighbours) {
+        return neighbours.stream().map(HnswIndex.Neighbour::documentId).collect(Collectors.toList());
+    }
+
+    // Walks (id, text) rows in id order one page of embeddingBatchSize at a time, embedding and
+    // indexing each page with one provider call before fetching the next
+    private void indexAll(HnswIndex index, BiFunction<Long, Pageable, List<Object[]>> pageAfter) {
+        Pageable page = PageRequest.of(0, embeddingBatchSize);
+        List<Object[]> rows = pageAfter.apply(0L, page);
+        while (!rows.isEmpty()) {
+            List<Long> ids = new ArrayList<>(rows.size());
+            List<String> texts = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                String text = (String) row[1];
+                if (text != null && !text.isBlank()) {
+                    ids.add((Long) row[0]);
+                    texts.add(text);
+                }
+            }
+            if (!texts.isEmpty()) {
+                List<float[]> vectors = embeddingService.embeddingsFor(texts);
+                for (int i = 0; i < vectors.size(); i++) {
+                    if (vectors.get(i) != null) {
+                        index.add(ids.get(i), vectors.get(i));
+                    }
+                }
+            }
+            if (rows.size() < embeddingBatchSize) {
+                break;
+            }
+            rows = pageAfter.apply((Long) rows.get(rows.size() - 1)[0], page);
+        }
+    }
+
+    private void index(HnswIndex index, Long id, String text) {
+        if (!isEnabled() || id == null) {
+            return;
+        }
+        if (text == null || text.isBlank()) {
+            index.remove(id);
+            return;
+        }
+        try {
+            index.add(id, embeddingService.embeddingFor(text));
+        } catch (Exception e) {
+            System.err.println("Vector indexing failed for document " + id + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.jobfit.storage;
+
+import com.jobfit.util.Hashing;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+// Local content-addressed file store. Each blob is written once under root/ab/cd/<sha256>,
+// so identical uploads share one file and a stored blob never changes. Storing a blob together
+// with the row that references it, and deleting an unreferenced one, are serialized per hash
+// so a delete cannot remove a file a concurrent upload has just decided to reuse.
+@Component
+public class BlobStore {
+    @Value("${storage.blob.root:./data/blobs}")
+    private String rootPath;
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private Path root;
+    private Path staging;
+
+    public record StoredBlob(String hash, long size) {
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(rootPath).toAbsolutePath().normalize();
+        staging = root.resolve("tmp");
+        Files.createDirectories(staging);
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // Copies source into the store, hashing while copying; an existing blob with the same hash is
+    // reused. reference runs under the hash's lock (typically saving the row that points at the
+    // blob); if it throws, a blob this call created is removed again.
+    public <T> T put(Path source, Function<StoredBlob, T> reference) throws IOException {
+        Path temp = Files.createTempFile(staging, "blob-", ".tmp");
+        try {
+            MessageDigest digest = Hashing.sha256();
+            long size;
+            try (InputStream in = Files.newInputStream(source);
+                 OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                size = in.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = pathFor(hash);
+            ReentrantLock lock = lockFor(hash);
+            lock.lock();
+            try {
+                boolean created = false;
+                if (!Files.exists(target)) {
+                    Files.createDirectories(target.getParent());
+                    try {
+                        // Staging lives under root, so the move is a rename on the same file system
+                        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    created = true;
+                }
+                try {
+                    return reference.apply(new StoredBlob(hash, size));
+                } catch (RuntimeException e) {
+                    if (created) {
+                        Files.deleteIfExists(target);
+                    }
+                    throw e;
+                }
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public Optional<Path> locate(String hash) {
+        Path path = pathFor(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // Deletes the blob unless referenced reports that a row still points at it
+    public boolean deleteIfUnreferenced(String hash, BooleanSupplier referenced) throws IOException {
+        Path path = pathFor(hash);
+        ReentrantLock lock = lockFor(hash);
+        lock.lock();
+        try {
+            return !referenced.getAsBoolean() && Files.deleteIfExists(path);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(String hash) {
+        return locks[Integer.parseInt(hash.substring(0, 4), 16) % LOCK_STRIPES];
+    }
+
+    private Path pathFor(String hash) {
+        if (hash == null || !hash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Not a SHA-256 hex digest: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+}
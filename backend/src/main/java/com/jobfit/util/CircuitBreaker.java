@@ -0,0 +1,160 @@
+package com.jobfit.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Count-based circuit breaker. CLOSED records the outcome of the last windowSize calls and
+// opens once at least minimumCalls were seen and either the failure rate or the slow-call
+// rate reaches its threshold. OPEN rejects calls until openDurationMs has passed, then
+// HALF_OPEN lets halfOpenPermittedCalls probes through: any failure or slow probe re-opens
+// the breaker, all probes succeeding closes it.
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final long openDurationMs;
+    private final int halfOpenPermittedCalls;
+
+    // Ring buffer of outcomes in CLOSED state: bit 0 = failed, bit 1 = slow
+    private final byte[] outcomes;
+    private int next;
+    private int buffered;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+    private long rejectedCalls;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, float failureRateThreshold,
+                          float slowCallRateThreshold, long slowCallDurationMs, long openDurationMs,
+                          int halfOpenPermittedCalls) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationNanos = slowCallDurationMs * 1_000_000L;
+        this.openDurationMs = openDurationMs;
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+        this.outcomes = new byte[windowSize];
+    }
+
+    // Must be paired with exactly one onSuccess/onError/releasePermission when it returns true
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                rejectedCalls++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenIssued = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenIssued >= halfOpenPermittedCalls) {
+                rejectedCalls++;
+                return false;
+            }
+            halfOpenIssued++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(long durationNanos) {
+        record(false, durationNanos >= slowCallDurationNanos);
+    }
+
+    public synchronized void onError(long durationNanos) {
+        record(true, durationNanos >= slowCallDurationNanos);
+    }
+
+    // For a permitted call that was never attempted: records no outcome, and in HALF_OPEN frees
+    // the probe slot for another call
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenIssued > 0) {
+            halfOpenIssued--;
+        }
+    }
+
+    public synchronized State getState() {
+        // Report an expired OPEN state as HALF_OPEN so callers may send a probe
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMs) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public boolean isCallPermitted() {
+        return getState() != State.OPEN;
+    }
+
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("name", name);
+        snapshot.put("state", getState());
+        snapshot.put("bufferedCalls", buffered);
+        snapshot.put("failureRate", buffered == 0 ? 0f : 100f * failures / buffered);
+        snapshot.put("slowCallRate", buffered == 0 ? 0f : 100f * slowCalls / buffered);
+        snapshot.put("rejectedCalls", rejectedCalls);
+        return snapshot;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (state == State.HALF_OPEN) {
+            if (failed || slow) {
+                open();
+            } else if (++halfOpenSucceeded >= halfOpenPermittedCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // Late result of a call issued before the breaker opened
+            return;
+        }
+
+        if (buffered == windowSize) {
+            byte evicted = outcomes[next];
+            failures -= evicted & 1;
+            slowCalls -= (evicted >> 1) & 1;
+        } else {
+            buffered++;
+        }
+        outcomes[next] = (byte) ((failed ? 1 : 0) | (slow ? 2 : 0));
+        failures += failed ? 1 : 0;
+        slowCalls += slow ? 1 : 0;
+        next = (next + 1) % windowSize;
+
+        if (buffered >= minimumCalls
+                && (100f * failures / buffered >= failureRateThreshold
+                || 100f * slowCalls / buffered >= slowCallRateThreshold)) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        next = 0;
+        buffered = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
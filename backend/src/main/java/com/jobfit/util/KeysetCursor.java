@@ -0,0 +1,49 @@
+package com.jobfit.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque pagination cursor holding the sort key of the last row on a page
+// (e.g. timestamp and id), so the next page starts strictly after it
+public final class KeysetCursor {
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder joined = new StringBuilder();
+        for (Object key : keys) {
+            if (joined.length() > 0) {
+                joined.append(SEPARATOR);
+            }
+            joined.append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Throws IllegalArgumentException when the cursor was not produced by encode with that many keys
+    public static String[] decode(String cursor, int keyCount) {
+        String joined;
+        try {
+            joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        String[] keys = joined.split("\\|", -1);
+        if (keys.length != keyCount) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return keys;
+    }
+
+    public static LocalDateTime timestamp(String key) {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.jobfit.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HnswIndexTest {
+    private static final int DIMENSION = 32;
+    private static final int K = 10;
+
+    @Test
+    void recallMatchesBruteForce() {
+        Random random = new Random(7);
+        HnswIndex index = new HnswIndex(16, 200, 64);
+        Map<Long, float[]> vectors = new HashMap<>();
+        for (long id = 0; id < 2000; id++) {
+            float[] vector = randomVector(random);
+            vectors.put(id, vector);
+            index.add(id, vector);
+        }
+
+        assertTrue(recall(index, vectors, random) >= 0.95);
+    }
+
+    @Test
+    void removedDocumentsAreNeverReturnedAndRecallHolds() {
+        Random random = new Random(11);
+        HnswIndex index = new HnswIndex(16, 200, 64);
+        Map<Long, float[]> vectors = new HashMap<>();
+        for (long id = 0; id < 2000; id++) {
+            float[] vector = randomVector(random);
+            vectors.put(id, vector);
+            index.add(id, vector);
+        }
+        // Enough removals to trigger a rebuild, then a few more tombstones on top of it
+        for (long id = 0; id < 1200; id++) {
+            index.remove(id);
+            vectors.remove(id);
+        }
+
+        assertEquals(800, index.size());
+        for (int q = 0; q < 20; q++) {
+            for (HnswIndex.Neighbour neighbour : index.search(randomVector(random), K)) {
+                assertTrue(vectors.containsKey(neighbour.documentId()));
+            }
+        }
+        assertTrue(recall(index, vectors, random) >= 0.95);
+    }
+
+    @Test
+    void addReplacesExistingVector() {
+        HnswIndex index = new HnswIndex(16, 200, 64);
+        index.add(1L, new float[]{1f, 0f});
+        index.add(2L, new float[]{0f, 1f});
+        index.add(1L, new float[]{0f, 1f});
+
+        assertEquals(2, index.size());
+        List<HnswIndex.Neighbour> found = index.search(new float[]{0f, 1f}, 2);
+        assertEquals(2, found.size());
+        assertEquals(1.0f, found.get(0).similarity(), 1e-6);
+        assertEquals(1.0f, found.get(1).similarity(), 1e-6);
+    }
+
+    @Test
+    void rejectsVectorsOfAnotherDimension() {
+        HnswIndex index = new HnswIndex(16, 200, 64);
+        index.add(1L, new float[]{1f, 0f});
+
+        assertThrows(IllegalArgumentException.class, () -> index.add(2L, new float[]{1f, 0f, 0f}));
+    }
+
+    // Share of the exact top-K (by cosine) that the index returns, over 50 random queries
+    private static double recall(HnswIndex index, Map<Long, float[]> vectors, Random random) {
+        int hits = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomVector(random);
+            Set<Long> expected = new HashSet<>();
+            vectors.entrySet().stream()
+                    .sorted(Comparator.comparingDouble((Map.Entry<Long, float[]> e) -> -cosine(query, e.getValue())))
+                    .limit(K)
+                    .forEach(e -> expected.add(e.getKey()));
+            for (HnswIndex.Neighbour neighbour : index.search(query, K)) {
+                if (expected.contains(neighbour.documentId())) {
+                    hits++;
+                }
+            }
+        }
+        return (double) hits / (queries * K);
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0, normA = 0, normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+}
@@ -0,0 +1,65 @@
+package com.jobfit.scoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillMatcherTest {
+    @Test
+    void overlappingShorterPhraseIsNotReported() {
+        SkillMatcher matcher = new SkillMatcher(Map.of("Node.js", List.of(), "JavaScript", List.of("JS")));
+
+        assertEquals(List.of("Node.js"), matcher.findSkills("Built APIs in Node.js"));
+        assertEquals(List.of("JavaScript"), matcher.findSkills("Front end in plain JS"));
+    }
+
+    @Test
+    void longestPhraseWinsAtTheSameStart() {
+        SkillMatcher matcher = new SkillMatcher(Map.of("Spring", List.of(), "Spring Boot", List.of()));
+
+        assertEquals(List.of("Spring Boot"), matcher.findSkills("Services written with Spring Boot"));
+        assertEquals(List.of("Spring"), matcher.findSkills("Spring and Hibernate"));
+    }
+
+    @Test
+    void leftmostPhraseWinsOverALaterOverlappingOne() {
+        SkillMatcher matcher = new SkillMatcher(Map.of("Machine Learning", List.of(), "Learning Management", List.of()));
+
+        assertEquals(List.of("Machine Learning"), matcher.findSkills("machine learning management systems"));
+    }
+
+    @Test
+    void matchesOnlyOnWordBoundaries() {
+        SkillMatcher matcher = new SkillMatcher(Map.of("Java", List.of(), "R", List.of()));
+
+        assertEquals(List.of(), matcher.findSkills("JavaScript and Rust"));
+        assertEquals(List.of("Java", "R"), matcher.findSkills("Java, R"));
+    }
+
+    @Test
+    void ignoresCaseAndKindOfWhitespace() {
+        SkillMatcher matcher = new SkillMatcher(Map.of("Spring Boot", List.of()));
+
+        assertEquals(List.of("Spring Boot"), matcher.findSkills("SPRING\nBOOT"));
+    }
+
+    @Test
+    void reportsCanonicalNamesOnceInOrderOfFirstOccurrence() {
+        SkillMatcher matcher = new SkillMatcher(Map.of("Kubernetes", List.of("K8s"), "Docker", List.of()));
+
+        assertEquals(List.of("Kubernetes", "Docker"), matcher.findSkills("K8s, Docker and Kubernetes"));
+        assertEquals(2, matcher.skillCount());
+        assertEquals(3, matcher.phraseCount());
+    }
+
+    @Test
+    void emptyTextHasNoSkills() {
+        SkillMatcher matcher = new SkillMatcher(Map.of("Java", List.of()));
+
+        assertTrue(matcher.findSkills("").isEmpty());
+        assertTrue(matcher.findSkills(null).isEmpty());
+    }
+}
@@ -0,0 +1,139 @@
+package com.jobfit.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+    private static final long FAST = 1_000_000L;
+    private static final long SLOW = 500_000_000L;
+    private static final long OPEN_DURATION_MS = 50;
+
+    // Window of 10, opens at 50% failures or 100% slow calls (slow = 100 ms) once 4 calls were seen,
+    // then allows 2 half-open probes
+    private static CircuitBreaker breaker() {
+        return new CircuitBreaker("test", 10, 4, 50f, 100f, 100, OPEN_DURATION_MS, 2);
+    }
+
+    private static void call(CircuitBreaker breaker, boolean fails, long durationNanos) {
+        assertTrue(breaker.tryAcquirePermission());
+        if (fails) {
+            breaker.onError(durationNanos);
+        } else {
+            breaker.onSuccess(durationNanos);
+        }
+    }
+
+    private static void open(CircuitBreaker breaker) {
+        call(breaker, false, FAST);
+        call(breaker, false, FAST);
+        call(breaker, true, FAST);
+        call(breaker, true, FAST);
+    }
+
+    private static void awaitHalfOpen() throws InterruptedException {
+        Thread.sleep(OPEN_DURATION_MS + 20);
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = breaker();
+        call(breaker, true, FAST);
+        call(breaker, true, FAST);
+        call(breaker, true, FAST);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void opensAtFailureRateAndRejectsCalls() {
+        CircuitBreaker breaker = breaker();
+        open(breaker);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.isCallPermitted());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(1L, breaker.snapshot().get("rejectedCalls"));
+    }
+
+    @Test
+    void opensAtSlowCallRate() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            call(breaker, false, SLOW);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void closesAfterSuccessfulHalfOpenProbes() throws InterruptedException {
+        CircuitBreaker breaker = breaker();
+        open(breaker);
+        awaitHalfOpen();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        breaker.onSuccess(FAST);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onSuccess(FAST);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        // The window starts empty again
+        assertEquals(0, breaker.snapshot().get("bufferedCalls"));
+    }
+
+    @Test
+    void reopensWhenAHalfOpenProbeFails() throws InterruptedException {
+        CircuitBreaker breaker = breaker();
+        open(breaker);
+        awaitHalfOpen();
+
+        call(breaker, true, FAST);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void reopensWhenAHalfOpenProbeIsSlow() throws InterruptedException {
+        CircuitBreaker breaker = breaker();
+        open(breaker);
+        awaitHalfOpen();
+
+        call(breaker, false, SLOW);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void releasedPermissionRecordsNothingAndFreesTheProbe() throws InterruptedException {
+        CircuitBreaker breaker = breaker();
+        open(breaker);
+        awaitHalfOpen();
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.releasePermission();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void releasedPermissionIsNotCountedWhileClosed() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.releasePermission();
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.snapshot().get("bufferedCalls"));
+    }
+}
@@ -0,0 +1,22 @@
+package com.jobfit.benchmarks;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+
+// Wires the backend's field-injected components by hand, so benchmarks measure the
+// production code without starting a Spring context
+final class Beans {
+    private Beans() {
+    }
+
+    static <T> T set(T target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException(target.getClass().getSimpleName() + " has no field " + fieldName);
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+        return target;
+    }
+}
@@ -0,0 +1,154 @@
+package com.jobfit.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic synthetic resumes and job descriptions, shaped like real uploads: a few
+// thousand characters of prose with a skills section, dated roles and an education block.
+// The same seed always yields the same corpus, so runs stay comparable.
+public final class Corpus {
+    public record Document(String text, List<String> skills, List<String> experience, List<String> education) {
+    }
+
+    private static final String[] SKILLS = {
+        "Java", "Spring Boot", "Hibernate", "Python", "Django", "Flask", "JavaScript", "TypeScript",
+        "React", "Angular", "Vue.js", "Node.js", "Kotlin", "Scala", "Go", "C#", "C++", "SQL",
+        "PostgreSQL", "MySQL", "MongoDB", "Redis", "Elasticsearch", "Kafka", "RabbitMQ", "Docker",
+        "Kubernetes", "Terraform", "AWS", "Azure", "Google Cloud", "Jenkins", "Git", "Linux",
+        "GraphQL", "REST", "Microservices", "Machine Learning", "TensorFlow", "PyTorch", "Pandas",
+        "Spark", "Hadoop", "Agile", "Scrum", "CI/CD", "HTML", "CSS", "Leadership", "Communication"
+    };
+
+    private static final String[] TITLES = {
+        "Software Engineer", "Backend Developer", "Full Stack Developer", "Data Engineer",
+        "DevOps Engineer", "Machine Learning Engineer", "Frontend Developer", "Platform Engineer"
+    };
+
+    private static final String[] SENIORITY = {"Junior", "Senior", "Lead", "Principal", "Staff"};
+
+    private static final String[] COMPANIES = {
+        "Acme Corp", "Globex", "Initech", "Umbrella Labs", "Hooli", "Stark Industries", "Wayne Tech"
+    };
+
+    private static final String[] DEGREES = {"Bachelor", "Master", "PhD", "BSc", "MSc", "MBA", "Diploma"};
+
+    private static final String[] FIELDS = {
+        "Computer Science", "Engineering", "Information Technology", "Business", "Finance"
+    };
+
+    private static final String[] SCHOOLS = {"University", "College", "Institute"};
+
+    private static final String[] ACHIEVEMENTS = {
+        "Designed and built services handling several thousand requests per second using %s and %s.",
+        "Reduced deployment time by half by introducing %s pipelines and containerising with %s.",
+        "Led the migration of a legacy monolith to %s, working closely with product and design.",
+        "Mentored engineers and ran code reviews with a focus on %s best practices and %s.",
+        "Owned the data model and query tuning for %s, cutting p99 latency on key endpoints.",
+        "Introduced automated testing around %s integrations and improved on-call reliability."
+    };
+
+    private Corpus() {
+    }
+
+    public static List<Document> resumes(int count, long seed) {
+        Random random = new Random(seed);
+        List<Document> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            documents.add(resume(random));
+        }
+        return documents;
+    }
+
+    public static List<Document> jobDescriptions(int count, long seed) {
+        Random random = new Random(seed);
+        List<Document> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            documents.add(jobDescription(random));
+        }
+        return documents;
+    }
+
+    private static Document resume(Random random) {
+        List<String> skills = pick(random, SKILLS, 8 + random.nextInt(12));
+        List<String> experience = new ArrayList<>();
+        List<String> education = new ArrayList<>();
+        StringBuilder text = new StringBuilder(6000);
+
+        String title = pick(random, SENIORITY) + " " + pick(random, TITLES);
+        int years = 1 + random.nextInt(15);
+        text.append("Candidate ").append(random.nextInt(100000)).append('\n').append(title).append("\n\n");
+        text.append("Summary\n").append(years).append(" years of experience building and operating production systems. ")
+                .append("Experience in ").append(skills.get(0)).append(" and ").append(skills.get(1))
+                .append(" across distributed teams.\n\n");
+        experience.add(years + " years of experience");
+        experience.add(title);
+
+        text.append("Skills\n").append(String.join(", ", skills)).append("\n\n");
+
+        text.append("Experience\n");
+        int roles = 2 + random.nextInt(4);
+        for (int r = 0; r < roles; r++) {
+            String role = pick(random, SENIORITY) + " " + pick(random, TITLES);
+            int end = 2024 - r * 2;
+            text.append(role).append(", ").append(pick(random, COMPANIES))
+                    .append(" (").append(end - 2).append(" - ").append(end).append(")\n");
+            experience.add(role);
+            int bullets = 3 + random.nextInt(4);
+            for (int b = 0; b < bullets; b++) {
+                text.append("- ").append(String.format(pick(random, ACHIEVEMENTS),
+                        pick(random, skills), pick(random, skills))).append('\n');
+            }
+            text.append('\n');
+        }
+
+        text.append("Education\n");
+        String degree = pick(random, DEGREES) + " in " + pick(random, FIELDS);
+        text.append(degree).append(", ").append(pick(random, SCHOOLS)).append(" of Somewhere\n");
+        education.add(degree);
+        if (random.nextBoolean()) {
+            text.append("Certificate in ").append(pick(random, skills)).append('\n');
+            education.add("Certificate");
+        }
+        return new Document(text.toString(), skills, experience, education);
+    }
+
+    private static Document jobDescription(Random random) {
+        List<String> skills = pick(random, SKILLS, 5 + random.nextInt(8));
+        String title = pick(random, SENIORITY) + " " + pick(random, TITLES);
+        int years = 2 + random.nextInt(8);
+        List<String> experience = List.of(years + " years of experience", title);
+        String degree = pick(random, DEGREES) + " in " + pick(random, FIELDS);
+        List<String> education = List.of(degree);
+
+        StringBuilder text = new StringBuilder(3000);
+        text.append(title).append(" at ").append(pick(random, COMPANIES)).append("\n\n");
+        text.append("We are looking for an engineer with ").append(years)
+                .append(" years of experience to join a product team shipping weekly. ")
+                .append("You will design, build and operate services end to end.\n\n");
+        text.append("Requirements\n");
+        for (String skill : skills) {
+            text.append("- Hands-on experience with ").append(skill).append('\n');
+        }
+        text.append("- ").append(degree).append(" or equivalent experience\n\n");
+        text.append("Nice to have\n- Open source contributions\n- Experience in a fast-growing startup\n");
+        return new Document(text.toString(), skills, experience, education);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static List<String> pick(Random random, String[] values, int count) {
+        List<String> pool = new ArrayList<>(List.of(values));
+        List<String> picked = new ArrayList<>(count);
+        for (int i = 0; i < count && !pool.isEmpty(); i++) {
+            picked.add(pool.remove(random.nextInt(pool.size())));
+        }
+        return picked;
+    }
+}
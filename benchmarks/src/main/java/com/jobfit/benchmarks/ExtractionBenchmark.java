@@ -0,0 +1,57 @@
+package com.jobfit.benchmarks;
+
+import com.jobfit.service.TextExtractionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The local extraction stages TextExtractionService runs on every upload: the taxonomy skill
+// matcher and the experience and education patterns, over full-length resume texts
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExtractionBenchmark {
+    private static final int DOCUMENTS = 128;
+
+    private TextExtractionService extraction;
+    private String[] texts;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        extraction = Fixtures.textExtractionService();
+        List<Corpus.Document> resumes = Corpus.resumes(DOCUMENTS, 42);
+        texts = new String[DOCUMENTS];
+        for (int i = 0; i < DOCUMENTS; i++) {
+            texts[i] = resumes.get(i).text();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        extraction.shutdown();
+    }
+
+    @Benchmark
+    public List<String> skills() {
+        return extraction.extractSkillsFromTaxonomy(nextText());
+    }
+
+    @Benchmark
+    public List<String> experience() {
+        return extraction.extractExperience(nextText());
+    }
+
+    @Benchmark
+    public List<String> education() {
+        return extraction.extractEducation(nextText());
+    }
+
+    private String nextText() {
+        return texts[(next++ & Integer.MAX_VALUE) % DOCUMENTS];
+    }
+}
@@ -0,0 +1,32 @@
+package com.jobfit.benchmarks;
+
+import com.jobfit.scoring.SkillTaxonomy;
+import com.jobfit.service.TextExtractionService;
+import org.springframework.core.io.DefaultResourceLoader;
+
+// Backend components configured with their application.properties defaults
+final class Fixtures {
+    private Fixtures() {
+    }
+
+    static SkillTaxonomy skillTaxonomy() throws Exception {
+        SkillTaxonomy taxonomy = new SkillTaxonomy();
+        Beans.set(taxonomy, "location", "classpath:skills-taxonomy.txt");
+        Beans.set(taxonomy, "resourceLoader", new DefaultResourceLoader());
+        taxonomy.init();
+        return taxonomy;
+    }
+
+    static TextExtractionService textExtractionService() throws Exception {
+        TextExtractionService extraction = new TextExtractionService();
+        Beans.set(extraction, "skillTaxonomy", skillTaxonomy());
+        Beans.set(extraction, "maxChars", 500000);
+        Beans.set(extraction, "timeoutMs", 30000L);
+        Beans.set(extraction, "stageDeadlineMs", 15000L);
+        Beans.set(extraction, "spoolDir", System.getProperty("java.io.tmpdir"));
+        Beans.set(extraction, "parseThreads", 4);
+        Beans.set(extraction, "parseQueueCapacity", 100);
+        extraction.init();
+        return extraction;
+    }
+}
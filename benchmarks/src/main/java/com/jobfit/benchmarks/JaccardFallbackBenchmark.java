@@ -0,0 +1,44 @@
+package com.jobfit.benchmarks;
+
+import com.jobfit.service.HuggingFaceService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The word-set Jaccard that HuggingFaceService falls back to when the similarity API fails.
+// Inputs are cut to 1000 characters, as the service truncates them before either path.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JaccardFallbackBenchmark {
+    private static final int DOCUMENTS = 128;
+
+    private String[] resumes;
+    private String[] jobs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        resumes = truncated(Corpus.resumes(DOCUMENTS, 42));
+        jobs = truncated(Corpus.jobDescriptions(DOCUMENTS, 7));
+    }
+
+    @Benchmark
+    public float jaccardSimilarity() {
+        int pair = next++ & Integer.MAX_VALUE;
+        return HuggingFaceService.calculateJaccardSimilarity(jobs[pair % DOCUMENTS], resumes[(pair * 31 & Integer.MAX_VALUE) % DOCUMENTS]);
+    }
+
+    private static String[] truncated(List<Corpus.Document> documents) {
+        String[] texts = new String[documents.size()];
+        for (int i = 0; i < texts.length; i++) {
+            String text = documents.get(i).text();
+            texts[i] = text.length() > 1000 ? text.substring(0, 1000) : text;
+        }
+        return texts;
+    }
+}
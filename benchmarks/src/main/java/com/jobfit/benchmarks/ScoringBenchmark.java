@@ -0,0 +1,134 @@
+package com.jobfit.benchmarks;
+
+import com.jobfit.entity.JobDescription;
+import com.jobfit.entity.MatchResult;
+import com.jobfit.entity.Resume;
+import com.jobfit.scoring.SkillDictionary;
+import com.jobfit.scoring.SkillSet;
+import com.jobfit.scoring.TermVector;
+import com.jobfit.service.MatchingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// MatchingService.scoreMatch and the skills, experience and education scores it is built from,
+// measured over rotating resume/job pairs so no single pair stays hot in the caches
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringBenchmark {
+    private static final int RESUMES = 256;
+    private static final int JOBS = 64;
+
+    private List<Corpus.Document> resumes;
+    private List<Corpus.Document> jobs;
+    private SkillDictionary dictionary;
+
+    private int[][] resumeSkills;
+    private int[][] requiredSkills;
+    private TermVector[] resumeExperience;
+    private TermVector[] requiredExperience;
+    private TermVector[] resumeEducation;
+    private TermVector[] requiredEducation;
+
+    private MatchingService matchingService;
+    private Resume[] resumeEntities;
+    private JobDescription[] jobEntities;
+
+    // Walks every job for one resume, then moves to the next resume
+    private int next;
+
+    @Setup
+    public void setUp() {
+        resumes = Corpus.resumes(RESUMES, 42);
+        jobs = Corpus.jobDescriptions(JOBS, 7);
+        dictionary = new SkillDictionary();
+
+        resumeSkills = new int[RESUMES][];
+        resumeExperience = new TermVector[RESUMES];
+        resumeEducation = new TermVector[RESUMES];
+        for (int i = 0; i < RESUMES; i++) {
+            Corpus.Document resume = resumes.get(i);
+            resumeSkills[i] = dictionary.encode(resume.skills());
+            resumeExperience[i] = TermVector.of(resume.experience());
+            resumeEducation[i] = TermVector.of(resume.education());
+        }
+
+        requiredSkills = new int[JOBS][];
+        requiredExperience = new TermVector[JOBS];
+        requiredEducation = new TermVector[JOBS];
+        for (int j = 0; j < JOBS; j++) {
+            Corpus.Document job = jobs.get(j);
+            requiredSkills[j] = dictionary.encode(job.skills());
+            requiredExperience[j] = TermVector.of(job.experience());
+            requiredEducation[j] = TermVector.of(job.education());
+        }
+
+        // Semantic scoring off, as when ranking offline; skill ids are encoded up front, as they
+        // are stored with saved rows
+        matchingService = new MatchingService();
+        Beans.set(matchingService, "semanticEnabled", false);
+        Beans.set(matchingService, "skillDictionary", dictionary);
+        resumeEntities = new Resume[RESUMES];
+        for (int i = 0; i < RESUMES; i++) {
+            Corpus.Document document = resumes.get(i);
+            Resume resume = new Resume();
+            resume.setSkills(document.skills());
+            resume.setExperience(document.experience());
+            resume.setEducation(document.education());
+            resume.setSkillIds(resumeSkills[i]);
+            resumeEntities[i] = resume;
+        }
+        jobEntities = new JobDescription[JOBS];
+        for (int j = 0; j < JOBS; j++) {
+            Corpus.Document document = jobs.get(j);
+            JobDescription job = new JobDescription();
+            job.setRequiredSkills(document.skills());
+            job.setExperienceRequirements(document.experience());
+            job.setEducationRequirements(document.education());
+            dictionary.encodeRequiredSkills(job);
+            jobEntities[j] = job;
+        }
+    }
+
+    @Benchmark
+    public double skillsSimilarity() {
+        int pair = next++ & Integer.MAX_VALUE;
+        return SkillSet.jaccard(resumeSkills[pair / JOBS % RESUMES], requiredSkills[pair % JOBS]);
+    }
+
+    @Benchmark
+    public double experienceSimilarity() {
+        int pair = next++ & Integer.MAX_VALUE;
+        return requiredExperience[pair % JOBS].coverageBy(resumeExperience[pair / JOBS % RESUMES]);
+    }
+
+    @Benchmark
+    public double educationSimilarity() {
+        int pair = next++ & Integer.MAX_VALUE;
+        return requiredEducation[pair % JOBS].coverageBy(resumeEducation[pair / JOBS % RESUMES]);
+    }
+
+    // MatchingService.scoreMatch end to end: the component scores, the non-semantic weights,
+    // missing skills and per-skill scores, as used when ranking offline
+    @Benchmark
+    public MatchResult scoreMatch() {
+        int pair = next++ & Integer.MAX_VALUE;
+        return matchingService.scoreMatch(resumeEntities[pair / JOBS % RESUMES], jobEntities[pair % JOBS]);
+    }
+
+    // Derivation cost paid when a row has no stored vectors or skill ids yet
+    @Benchmark
+    public TermVector buildTermVector() {
+        return TermVector.of(resumes.get((next++ & Integer.MAX_VALUE) % RESUMES).experience());
+    }
+
+    @Benchmark
+    public int[] encodeSkills() {
+        return dictionary.encode(resumes.get((next++ & Integer.MAX_VALUE) % RESUMES).skills());
+    }
+}
@@ -0,0 +1,101 @@
+package com.jobfit.benchmarks;
+
+import com.jobfit.service.TextExtractionService;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// TextExtractionService.extractText over a generated resume in each upload format,
+// i.e. the Tika parse every ingestion pays before any extraction stage runs
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TikaBenchmark {
+    private static final int LINES_PER_PAGE = 50;
+
+    @Param({"pdf", "docx"})
+    public String format;
+
+    private TextExtractionService extraction;
+    private Path file;
+
+    @Setup
+    public void setUp() throws Exception {
+        extraction = Fixtures.textExtractionService();
+        String text = Corpus.resumes(1, 42).get(0).text();
+        file = Files.createTempFile("resume-", "." + format);
+        if (format.equals("pdf")) {
+            writePdf(text, file);
+        } else {
+            writeDocx(text, file);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        extraction.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public String extractText() throws Exception {
+        return extraction.extractText(file);
+    }
+
+    @Benchmark
+    public String detectContentType() throws IOException {
+        return extraction.detectContentType(file, file.getFileName().toString());
+    }
+
+    private static void writeDocx(String text, Path file) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); OutputStream out = Files.newOutputStream(file)) {
+            for (String line : text.split("\n")) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(out);
+        }
+    }
+
+    private static void writePdf(String text, Path file) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPageContentStream content = null;
+            int lines = LINES_PER_PAGE;
+            for (String line : text.split("\n")) {
+                if (lines == LINES_PER_PAGE) {
+                    if (content != null) {
+                        content.endText();
+                        content.close();
+                    }
+                    PDPage page = new PDPage();
+                    document.addPage(page);
+                    content = new PDPageContentStream(document, page);
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 10);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 750);
+                    lines = 0;
+                }
+                content.showText(line);
+                content.newLine();
+                lines++;
+            }
+            if (content != null) {
+                content.endText();
+                content.close();
+            }
+            document.save(file.toFile());
+        }
+    }
+}
@@ -8,7 +8,10 @@ const Dashboard = () => {
   const { user } = useAuth();
   const [resumes, setResumes] = useState([]);
   const [jobDescriptions, setJobDescriptions] = useState([]);
+  const [moreResumes, setMoreResumes] = useState(false);
+  const [moreJobDescriptions, setMoreJobDescriptions] = useState(false);
   const [matchResults, setMatchResults] = useState([]);
+  const [moreMatchResults, setMoreMatchResults] = useState(false);
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
@@ -17,13 +20,18 @@ const Dashboard = () => {
 
   const fetchDashboardData = async () => {
     try {
-      const [resumesRes, jobDescriptionsRes] = await Promise.all([
-        axios.get('http://localhost:8080/api/resumes'),
-        axios.get('http://localhost:8080/api/job-descriptions')
+      const [resumesRes, jobDescriptionsRes, matchResultsRes] = await Promise.all([
+        axios.get('http://localhost:8080/api/resumes', { params: { limit: 100 } }),
+        axios.get('http://localhost:8080/api/job-descriptions', { params: { limit: 100 } }),
+        axios.get('http://localhost:8080/api/matching/results', { params: { limit: 100 } })
       ]);
 
-      setResumes(resumesRes.data);
-      setJobDescriptions(jobDescriptionsRes.data);
+      setResumes(resumesRes.data.items);
+      setMoreResumes(resumesRes.data.nextCursor != null);
+      setJobDescriptions(jobDescriptionsRes.data.items);
+      setMoreJobDescriptions(jobDescriptionsRes.data.nextCursor != null);
+      setMatchResults(matchResultsRes.data.items);
+      setMoreMatchResults(matchResultsRes.data.nextCursor != null);
     } catch (error) {
       console.error('Error fetching dashboard data:', error);
     } finally {
@@ -68,7 +76,7 @@ const Dashboard = () => {
               </div>
               <div className="ml-4">
                 <p className="text-sm font-medium text-gray-600">Resumes</p>
-                <p className="text-2xl font-semibold text-gray-900">{resumes.length}</p>
+                <p className="text-2xl font-semibold text-gray-900">{resumes.length}{moreResumes && '+'}</p>
               </div>
             </div>
           </div>
@@ -80,7 +88,7 @@ const Dashboard = () => {
               </div>
               <div className="ml-4">
                 <p className="text-sm font-medium text-gray-600">Job Descriptions</p>
-                <p className="text-2xl font-semibold text-gray-900">{jobDescriptions.length}</p>
+                <p className="text-2xl font-semibold text-gray-900">{jobDescriptions.length}{moreJobDescriptions && '+'}</p>
               </div>
             </div>
           </div>
@@ -92,7 +100,7 @@ const Dashboard = () => {
               </div>
               <div className="ml-4">
                 <p className="text-sm font-medium text-gray-600">Matches</p>
-                <p className="text-2xl font-semibold text-gray-900">{matchResults.length}</p>
+                <p className="text-2xl font-semibold text-gray-900">{matchResults.length}{moreMatchResults && '+'}</p>
               </div>
             </div>
           </div>
@@ -174,7 +182,7 @@ const Dashboard = () => {
                     <div>
                       <p className="text-sm font-medium text-gray-900">{resume.fileName}</p>
                       <p className="text-xs text-gray-500">
-                        {resume.skills?.length || 0} skills detected • 
+                        {resume.skillCount || 0} skills detected • 
                         Uploaded {new Date(resume.uploadedAt).toLocaleDateString()}
                       </p>
                     </div>
@@ -206,7 +214,7 @@ const Dashboard = () => {
                     <div>
                       <p className="text-sm font-medium text-gray-900">{jd.title}</p>
                       <p className="text-xs text-gray-500">
-                        {jd.company} • {jd.requiredSkills?.length || 0} required skills • 
+                        {jd.company} • {jd.requiredSkillCount || 0} required skills • 
                         {new Date(jd.createdAt).toLocaleDateString()}
                       </p>
                     </div>
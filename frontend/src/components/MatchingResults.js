@@ -21,15 +21,27 @@ const MatchingResults = () => {
     fetchData();
   }, []);
 
+  // The list endpoints are cursor-paginated; the pickers need every entry
+  const fetchAllPages = async (url) => {
+    const items = [];
+    let cursor = null;
+    do {
+      const response = await axios.get(url, { params: { limit: 100, cursor } });
+      items.push(...response.data.items);
+      cursor = response.data.nextCursor;
+    } while (cursor);
+    return items;
+  };
+
   const fetchData = async () => {
     try {
-      const [resumesRes, jobDescriptionsRes] = await Promise.all([
-        axios.get('http://localhost:8080/api/resumes'),
-        axios.get('http://localhost:8080/api/job-descriptions')
+      const [resumeList, jobDescriptionList] = await Promise.all([
+        fetchAllPages('http://localhost:8080/api/resumes'),
+        fetchAllPages('http://localhost:8080/api/job-descriptions')
       ]);
 
-      setResumes(resumesRes.data);
-      setJobDescriptions(jobDescriptionsRes.data);
+      setResumes(resumeList);
+      setJobDescriptions(jobDescriptionList);
     } catch (error) {
       console.error('Error fetching data:', error);
       setError('Failed to fetch data. Please try again.');
@@ -9,9 +9,25 @@ const ResumeUpload = () => {
   const [uploadSuccess, setUploadSuccess] = useState(false);
   const [error, setError] = useState('');
   const [uploadedResume, setUploadedResume] = useState(null);
+  const [stage, setStage] = useState('');
   
   const navigate = useNavigate();
 
+  // Upload returns 202 with an ingestion job; poll it until the resume has been processed
+  const waitForIngestion = async (jobId) => {
+    for (;;) {
+      const { data: job } = await axios.get(`http://localhost:8080/api/resumes/ingestions/${jobId}`);
+      setStage(job.status);
+      if (job.status === 'COMPLETED') {
+        return job.resumeId;
+      }
+      if (job.status === 'FAILED') {
+        throw new Error(job.error || 'Failed to process resume');
+      }
+      await new Promise((resolve) => setTimeout(resolve, 1000));
+    }
+  };
+
   const onDrop = useCallback(async (acceptedFiles) => {
     if (acceptedFiles.length === 0) return;
 
@@ -42,7 +58,10 @@ const ResumeUpload = () => {
         },
       });
 
-      setUploadedResume(response.data);
+      const resumeId = await waitForIngestion(response.data.id);
+      const resume = await axios.get(`http://localhost:8080/api/resumes/${resumeId}`);
+
+      setUploadedResume(resume.data);
       setUploadSuccess(true);
       
       // Redirect to dashboard after 2 seconds
@@ -52,9 +71,10 @@ const ResumeUpload = () => {
 
     } catch (error) {
       console.error('Upload error:', error);
-      setError(error.response?.data?.message || 'Failed to upload resume. Please try again.');
+      setError(error.response?.data?.message || error.message || 'Failed to upload resume. Please try again.');
     } finally {
       setUploading(false);
+      setStage('');
     }
   }, [navigate]);
 
@@ -134,7 +154,12 @@ const ResumeUpload = () => {
                 {uploading && (
                   <div className="flex items-center justify-center space-x-2 text-primary-600">
                     <FaSpinner className="animate-spin h-5 w-5" />
-                    <span>Processing your resume...</span>
+                    <span>
+                      {stage === 'PARSING' ? 'Reading your resume...'
+                        : stage === 'EXTRACTING' ? 'Analyzing skills and experience...'
+                        : stage === 'PERSISTING' ? 'Saving results...'
+                        : 'Processing your resume...'}
+                    </span>
                   </div>
                 )}
               </div>
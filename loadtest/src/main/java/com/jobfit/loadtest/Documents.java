@@ -0,0 +1,74 @@
+package com.jobfit.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Plain-text resumes and job descriptions with enough skills, roles and education for
+// every extraction stage and match score to do real work
+final class Documents {
+    record JobDescription(String title, String company, String description) {
+    }
+
+    private static final String[] SKILLS = {
+        "Java", "Spring Boot", "Python", "Django", "JavaScript", "TypeScript", "React", "Angular",
+        "Node.js", "Kotlin", "SQL", "PostgreSQL", "MySQL", "MongoDB", "Redis", "Kafka", "Docker",
+        "Kubernetes", "AWS", "Azure", "Terraform", "Jenkins", "Git", "Linux", "GraphQL",
+        "Microservices", "Machine Learning", "TensorFlow", "Spark", "Agile", "Scrum"
+    };
+    private static final String[] TITLES = {
+        "Software Engineer", "Backend Developer", "Full Stack Developer", "Data Engineer", "DevOps Engineer"
+    };
+    private static final String[] SENIORITY = {"Junior", "Senior", "Lead", "Principal"};
+    private static final String[] COMPANIES = {"Acme Corp", "Globex", "Initech", "Hooli", "Umbrella Labs"};
+    private static final String[] DEGREES = {"Bachelor", "Master", "PhD", "MSc", "BSc"};
+    private static final String[] FIELDS = {"Computer Science", "Engineering", "Information Technology"};
+
+    private Documents() {
+    }
+
+    static String resume(Random random) {
+        List<String> skills = pick(random, 6 + random.nextInt(10));
+        StringBuilder text = new StringBuilder(4000);
+        text.append(pick(random, SENIORITY)).append(' ').append(pick(random, TITLES)).append("\n\n");
+        text.append(1 + random.nextInt(15)).append(" years of experience building production systems.\n\n");
+        text.append("Skills\n").append(String.join(", ", skills)).append("\n\nExperience\n");
+        for (int role = 0; role < 3; role++) {
+            text.append(pick(random, SENIORITY)).append(' ').append(pick(random, TITLES))
+                    .append(", ").append(pick(random, COMPANIES)).append('\n');
+            for (int bullet = 0; bullet < 4; bullet++) {
+                text.append("- Worked in a team shipping services with ")
+                        .append(skills.get(random.nextInt(skills.size()))).append(" and ")
+                        .append(skills.get(random.nextInt(skills.size()))).append(".\n");
+            }
+        }
+        text.append("\nEducation\n").append(pick(random, DEGREES)).append(" in ").append(pick(random, FIELDS))
+                .append(", University of Somewhere\n");
+        return text.toString();
+    }
+
+    static JobDescription jobDescription(Random random) {
+        String title = pick(random, SENIORITY) + " " + pick(random, TITLES);
+        StringBuilder text = new StringBuilder(2000);
+        text.append("We are hiring a ").append(title).append(" with ").append(2 + random.nextInt(8))
+                .append(" years of experience.\n\nRequirements\n");
+        for (String skill : pick(random, 4 + random.nextInt(6))) {
+            text.append("- Experience with ").append(skill).append('\n');
+        }
+        text.append("- ").append(pick(random, DEGREES)).append(" in ").append(pick(random, FIELDS)).append('\n');
+        return new JobDescription(title, pick(random, COMPANIES), text.toString());
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static List<String> pick(Random random, int count) {
+        List<String> pool = new ArrayList<>(List.of(SKILLS));
+        List<String> picked = new ArrayList<>(count);
+        for (int i = 0; i < count && !pool.isEmpty(); i++) {
+            picked.add(pool.remove(random.nextInt(pool.size())));
+        }
+        return picked;
+    }
+}
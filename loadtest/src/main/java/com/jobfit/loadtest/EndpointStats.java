@@ -0,0 +1,70 @@
+package com.jobfit.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-endpoint request counts and latency samples; percentiles are exact, from sorted samples
+public class EndpointStats {
+    private static class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long latencyNanos, boolean success) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+    }
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        endpoints.computeIfAbsent(endpoint, e -> new Samples()).add(latencyNanos, success);
+    }
+
+    public void clear() {
+        endpoints.clear();
+    }
+
+    public String report(double elapsedSeconds) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%-44s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Map.Entry<String, Samples> entry : new TreeMap<>(endpoints).entrySet()) {
+            Samples samples = entry.getValue();
+            long[] sorted;
+            int errors;
+            synchronized (samples) {
+                sorted = Arrays.copyOf(samples.nanos, samples.count);
+                errors = samples.errors;
+            }
+            Arrays.sort(sorted);
+            report.append(String.format(Locale.ROOT, "%-44s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    entry.getKey(), sorted.length, errors, sorted.length / elapsedSeconds,
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.90)),
+                    millis(percentile(sorted, 0.99)), millis(sorted.length > 0 ? sorted[sorted.length - 1] : 0)));
+        }
+        return report.toString();
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.jobfit.loadtest;
+
+import com.jobfit.JobFitAiApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// Self-contained load test of the upload -> match flow. Starts StubInferenceServer in place of
+// the Hugging Face API, boots the application on an in-memory H2 database (MySQL mode) with
+// blobs and spooled uploads in a temp directory, runs TrafficDriver and prints throughput and
+// latency percentiles per endpoint. Options are listed in LoadTestConfig.
+public final class LoadTest {
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        StubInferenceServer stub = new StubInferenceServer(config.stubLatencyMs(), config.stubJitterMs(),
+                config.stubErrorRate(), config.stubRateLimitPerSecond());
+        stub.start();
+        Path dataDir = Files.createTempDirectory("jobfit-loadtest-");
+        ConfigurableApplicationContext context = null;
+        try {
+            context = SpringApplication.run(JobFitAiApplication.class, applicationArgs(stub, dataDir));
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+
+            EndpointStats stats = new EndpointStats();
+            TrafficDriver driver = new TrafficDriver(config, baseUrl, stats);
+            List<TrafficDriver.Session> sessions = driver.signUp();
+
+            long start = System.nanoTime();
+            driver.seed(sessions);
+            double seedSeconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%nSeeding: %d resumes, %d job descriptions across %d users in %.1f s%n",
+                    config.warmupResumes(), config.warmupJobDescriptions(), config.users(), seedSeconds);
+            System.out.print(stats.report(seedSeconds));
+
+            stats.clear();
+            start = System.nanoTime();
+            driver.run(sessions);
+            double runSeconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%nMixed traffic: %d concurrent clients for %.1f s%n", config.concurrency(), runSeconds);
+            System.out.print(stats.report(runSeconds));
+
+            System.out.println();
+            System.out.println("Stub inference server: " + stub.stats());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            stub.stop();
+            FileSystemUtils.deleteRecursively(dataDir);
+        }
+    }
+
+    // Command-line arguments take precedence over the application's own application.properties
+    private static String[] applicationArgs(StubInferenceServer stub, Path dataDir) {
+        return new String[]{
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=create",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql=WARN",
+            "--logging.level.com.jobfit=INFO",
+            "--logging.level.org.springframework.security=WARN",
+            "--logging.level.org.springframework.web.client=WARN",
+            "--huggingface.api.url=" + stub.getBaseUrl(),
+            "--huggingface.api.feature-extraction-url=" + stub.getFeatureExtractionUrl(),
+            "--huggingface.api.token=loadtest",
+            "--huggingface.ner-cache.dir=",
+            "--storage.blob.root=" + dataDir.resolve("blobs"),
+            "--extraction.spool-dir=" + dataDir.resolve("spool")
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.jobfit.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Load test settings, given on the command line as --name=value (e.g. --concurrency=64)
+public record LoadTestConfig(
+        int users,
+        int concurrency,
+        int warmupResumes,
+        int warmupJobDescriptions,
+        int durationSeconds,
+        long seed,
+        // Traffic mix for the timed phase, as relative weights
+        int uploadWeight,
+        int matchWeight,
+        int readMatchWeight,
+        int listResumesWeight,
+        int historyWeight,
+        // Stub inference server behaviour
+        long stubLatencyMs,
+        long stubJitterMs,
+        double stubErrorRate,
+        int stubRateLimitPerSecond) {
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                intOption(options, "users", 8),
+                intOption(options, "concurrency", 32),
+                intOption(options, "warmup-resumes", 40),
+                intOption(options, "warmup-job-descriptions", 10),
+                intOption(options, "duration-seconds", 60),
+                longOption(options, "seed", 42),
+                intOption(options, "upload-weight", 10),
+                intOption(options, "match-weight", 50),
+                intOption(options, "read-match-weight", 15),
+                intOption(options, "list-resumes-weight", 15),
+                intOption(options, "history-weight", 10),
+                longOption(options, "stub-latency-ms", 150),
+                longOption(options, "stub-jitter-ms", 100),
+                doubleOption(options, "stub-error-rate", 0.02),
+                intOption(options, "stub-rate-limit-per-second", 0));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return config;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.remove(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    private static long longOption(Map<String, String> options, String name, long defaultValue) {
+        String value = options.remove(name);
+        return value != null ? Long.parseLong(value) : defaultValue;
+    }
+
+    private static double doubleOption(Map<String, String> options, String name, double defaultValue) {
+        String value = options.remove(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
@@ -0,0 +1,190 @@
+package com.jobfit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobfit.scoring.HashingEmbedder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Local stand-in for the Hugging Face inference API on POST /models/{model}. Answers sentence
+// similarity requests ({"inputs": {"source_sentence", "sentences"}}) with one score per sentence
+// and anything else as token classification; POST /pipeline/feature-extraction/{model} returns
+// one embedding per input text. Each call sleeps latencyMs plus up to jitterMs,
+// fails with 503 at errorRate, and beyond rateLimitPerSecond calls in a second gets 429.
+public class StubInferenceServer {
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double errorRate;
+    private final int rateLimitPerSecond;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Same dimension as all-MiniLM-L6-v2; texts sharing words get similar vectors
+    private final HashingEmbedder embedder = new HashingEmbedder(384);
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private HttpServer server;
+
+    private long windowSecond;
+    private int windowCount;
+
+    private final AtomicLong similarityRequests = new AtomicLong();
+    private final AtomicLong nerRequests = new AtomicLong();
+    private final AtomicLong embeddingRequests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+
+    public StubInferenceServer(long latencyMs, long jitterMs, double errorRate, int rateLimitPerSecond) {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/models/", this::handle);
+        server.createContext("/pipeline/feature-extraction/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // Value for huggingface.api.url
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/models";
+    }
+
+    // Value for huggingface.api.feature-extraction-url
+    public String getFeatureExtractionUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/pipeline/feature-extraction";
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("similarityRequests", similarityRequests.get());
+        stats.put("nerRequests", nerRequests.get());
+        stats.put("embeddingRequests", embeddingRequests.get());
+        stats.put("errors", errors.get());
+        stats.put("rateLimited", rateLimited.get());
+        return stats;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            JsonNode request;
+            try (InputStream in = exchange.getRequestBody()) {
+                request = objectMapper.readTree(in);
+            }
+
+            if (!admit()) {
+                rateLimited.incrementAndGet();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                respond(exchange, 429, Map.of("error", "Rate limit reached"));
+                return;
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            sleep(latencyMs + (jitterMs > 0 ? random.nextLong(jitterMs + 1) : 0));
+
+            if (random.nextDouble() < errorRate) {
+                errors.incrementAndGet();
+                respond(exchange, 503, Map.of("error", "Model is currently loading"));
+                return;
+            }
+
+            JsonNode inputs = request.path("inputs");
+            if (exchange.getRequestURI().getPath().startsWith("/pipeline/feature-extraction/")) {
+                embeddingRequests.incrementAndGet();
+                List<float[]> vectors = new ArrayList<>(inputs.size());
+                for (JsonNode input : inputs) {
+                    vectors.add(embedder.embed(input.asText()));
+                }
+                respond(exchange, 200, vectors);
+            } else if (inputs.has("source_sentence")) {
+                similarityRequests.incrementAndGet();
+                String source = inputs.path("source_sentence").asText();
+                JsonNode sentences = inputs.path("sentences");
+                float[] scores = new float[sentences.size()];
+                for (int i = 0; i < scores.length; i++) {
+                    // Stable per pair, so repeated matches score the same
+                    int hash = (source + "\n" + sentences.get(i).asText()).hashCode();
+                    scores[i] = (hash & 0x3ff) / 1023f;
+                }
+                respond(exchange, 200, scores);
+            } else {
+                nerRequests.incrementAndGet();
+                respond(exchange, 200, entities(inputs.asText()));
+            }
+        }
+    }
+
+    // Capitalised words tagged as the public NER model would (PER/ORG/MISC, never SKILL), so the
+    // application still takes its taxonomy fallback for skills
+    private static List<Map<String, Object>> entities(String text) {
+        String[] groups = {"ORG", "MISC", "PER"};
+        List<Map<String, Object>> entities = new ArrayList<>();
+        int start = 0;
+        for (String word : text.split("\\s+")) {
+            if (entities.size() == 20) {
+                break;
+            }
+            if (word.length() > 2 && Character.isUpperCase(word.charAt(0))) {
+                Map<String, Object> entity = new LinkedHashMap<>();
+                entity.put("entity_group", groups[Math.floorMod(word.hashCode(), groups.length)]);
+                entity.put("score", 0.9);
+                entity.put("word", word);
+                entity.put("start", start);
+                entity.put("end", start + word.length());
+                entities.add(entity);
+            }
+            start += word.length() + 1;
+        }
+        return entities;
+    }
+
+    private synchronized boolean admit() {
+        if (rateLimitPerSecond <= 0) {
+            return true;
+        }
+        long second = System.currentTimeMillis() / 1000;
+        if (second != windowSecond) {
+            windowSecond = second;
+            windowCount = 0;
+        }
+        return ++windowCount <= rateLimitPerSecond;
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.jobfit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Drives the running application over HTTP: signs up users, seeds each with resumes and job
+// descriptions, then runs a weighted mix of uploads, matches and reads from concurrent
+// virtual threads for a fixed duration, recording every call in EndpointStats
+public class TrafficDriver {
+    private static final Duration INGESTION_TIMEOUT = Duration.ofMinutes(2);
+    private static final long INGESTION_POLL_MS = 50;
+
+    static class Session {
+        final String token;
+        final List<Long> resumeIds = new CopyOnWriteArrayList<>();
+        final List<Long> jobDescriptionIds = new CopyOnWriteArrayList<>();
+        final List<long[]> matchedPairs = new CopyOnWriteArrayList<>();
+
+        Session(String token) {
+            this.token = token;
+        }
+    }
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final EndpointStats stats;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Random documents;
+
+    public TrafficDriver(LoadTestConfig config, String baseUrl, EndpointStats stats) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+        this.documents = new Random(config.seed());
+    }
+
+    public List<Session> signUp() {
+        String run = UUID.randomUUID().toString().substring(0, 6);
+        List<Session> sessions = new ArrayList<>();
+        for (int i = 0; i < config.users(); i++) {
+            String username = "lt" + run + "u" + i;
+            JsonNode response = send("POST /auth/signup", json("/auth/signup", Map.of(
+                    "username", username,
+                    "email", username + "@loadtest.local",
+                    "password", "loadtest-password",
+                    "role", "RECRUITER")), null);
+            if (response == null) {
+                throw new IllegalStateException("Could not sign up load test user " + username);
+            }
+            sessions.add(new Session(response.path("token").asText()));
+        }
+        return sessions;
+    }
+
+    // Gives every user resumes and job descriptions to match, uploading concurrently
+    public void seed(List<Session> sessions) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < config.warmupResumes(); i++) {
+                Session session = sessions.get(i % sessions.size());
+                String text = nextResume();
+                tasks.add(executor.submit(() -> uploadResume(session, text)));
+            }
+            for (int i = 0; i < config.warmupJobDescriptions(); i++) {
+                Session session = sessions.get(i % sessions.size());
+                Documents.JobDescription jobDescription = nextJobDescription();
+                tasks.add(executor.submit(() -> createJobDescription(session, jobDescription)));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        }
+    }
+
+    public void run(List<Session> sessions) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(config.durationSeconds()).toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < config.concurrency(); worker++) {
+                Session session = sessions.get(worker % sessions.size());
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        step(session);
+                    }
+                });
+            }
+        }
+    }
+
+    private void step(Session session) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int total = config.uploadWeight() + config.matchWeight() + config.readMatchWeight()
+                + config.listResumesWeight() + config.historyWeight();
+        int pick = random.nextInt(Math.max(total, 1));
+
+        if ((pick -= config.uploadWeight()) < 0) {
+            uploadResume(session, nextResume());
+        } else if ((pick -= config.matchWeight()) < 0) {
+            if (!session.resumeIds.isEmpty() && !session.jobDescriptionIds.isEmpty()) {
+                match(session, any(session.resumeIds, random), any(session.jobDescriptionIds, random));
+            }
+        } else if ((pick -= config.readMatchWeight()) < 0) {
+            if (!session.matchedPairs.isEmpty()) {
+                long[] pair = any(session.matchedPairs, random);
+                send("GET /matching/results/{resumeId}/{jobDescriptionId}",
+                        get("/matching/results/" + pair[0] + "/" + pair[1]), session.token);
+            }
+        } else if ((pick -= config.listResumesWeight()) < 0) {
+            send("GET /resumes", get("/resumes?limit=20"), session.token);
+        } else {
+            send("GET /matching/results", get("/matching/results?limit=20"), session.token);
+        }
+    }
+
+    // Upload, then poll the ingestion job; the end-to-end time is recorded separately
+    private void uploadResume(Session session, String text) {
+        long start = System.nanoTime();
+        JsonNode job = send("POST /resumes/upload", multipart("/resumes/upload", text), session.token);
+        if (job == null) {
+            stats.record("ingestion (upload to COMPLETED)", System.nanoTime() - start, false);
+            return;
+        }
+
+        String jobId = job.path("id").asText();
+        long deadline = start + INGESTION_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            sleep(INGESTION_POLL_MS);
+            JsonNode status = send("GET /resumes/ingestions/{jobId}", get("/resumes/ingestions/" + jobId), session.token);
+            String state = status != null ? status.path("status").asText() : "";
+            if (state.equals("COMPLETED")) {
+                session.resumeIds.add(status.path("resumeId").asLong());
+                stats.record("ingestion (upload to COMPLETED)", System.nanoTime() - start, true);
+                return;
+            }
+            if (state.equals("FAILED")) {
+                break;
+            }
+        }
+        stats.record("ingestion (upload to COMPLETED)", System.nanoTime() - start, false);
+    }
+
+    private void createJobDescription(Session session, Documents.JobDescription jobDescription) {
+        JsonNode created = send("POST /job-descriptions", json("/job-descriptions", Map.of(
+                "title", jobDescription.title(),
+                "company", jobDescription.company(),
+                "description", jobDescription.description())), session.token);
+        if (created != null) {
+            session.jobDescriptionIds.add(created.path("id").asLong());
+        }
+    }
+
+    private void match(Session session, long resumeId, long jobDescriptionId) {
+        JsonNode result = send("POST /matching/match", post(
+                "/matching/match?resumeId=" + resumeId + "&jobDescriptionId=" + jobDescriptionId,
+                HttpRequest.BodyPublishers.noBody(), "application/x-www-form-urlencoded"), session.token);
+        if (result != null) {
+            session.matchedPairs.add(new long[]{resumeId, jobDescriptionId});
+        }
+    }
+
+    // Sends the request and records it under endpoint; returns the parsed body on 2xx, otherwise null
+    private JsonNode send(String endpoint, HttpRequest.Builder request, String token) {
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            boolean success = response.statusCode() / 100 == 2;
+            stats.record(endpoint, System.nanoTime() - start, success);
+            if (!success) {
+                return null;
+            }
+            return response.body().length > 0 ? objectMapper.readTree(response.body()) : objectMapper.nullNode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        } catch (Exception e) {
+            stats.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, HttpRequest.BodyPublisher body, String contentType) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", contentType)
+                .POST(body);
+    }
+
+    private HttpRequest.Builder json(String path, Object body) {
+        try {
+            return post(path, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)),
+                    "application/json");
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private HttpRequest.Builder multipart(String path, String text) {
+        String boundary = "loadtest-" + UUID.randomUUID();
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"resume.txt\"\r\n"
+                + "Content-Type: text/plain\r\n\r\n"
+                + text + "\r\n"
+                + "--" + boundary + "--\r\n";
+        return post(path, HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8),
+                "multipart/form-data; boundary=" + boundary);
+    }
+
+    private synchronized String nextResume() {
+        return Documents.resume(documents);
+    }
+
+    private synchronized Documents.JobDescription nextJobDescription() {
+        return Documents.jobDescription(documents);
+    }
+
+    private static <T> T any(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}